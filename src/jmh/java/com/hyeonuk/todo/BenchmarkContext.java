@@ -0,0 +1,48 @@
+package com.hyeonuk.todo;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * 기본값은 MySQL 모드의 H2 in-memory db이며, -Dbench.datasource.url 등으로 실제 MySQL을 지정할 수 있음
+ * redis를 사용하는 벤치마크는 docker-compose의 redis(localhost:6379)가 실행중이어야 함
+ */
+public final class BenchmarkContext {
+    public static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key";
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... overrides) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", "bench");
+        properties.put("spring.datasource.url", System.getProperty("bench.datasource.url",
+                "jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"));
+        properties.put("spring.datasource.username", System.getProperty("bench.datasource.username", "sa"));
+        properties.put("spring.datasource.password", System.getProperty("bench.datasource.password", ""));
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("jwt.secret_key", SECRET_KEY);
+        properties.put("jwt.exp", "3600000");
+        properties.put("spring.data.redis.host", System.getProperty("bench.redis.host", "localhost"));
+        properties.put("spring.data.redis.port", System.getProperty("bench.redis.port", "6379"));
+        properties.put("spring.mail.host", "localhost");
+        properties.put("server.port", "0");
+        properties.put("logging.level.root", "WARN");
+
+        //같은 옵션이 두번 들어가면 값이 합쳐지므로 key 단위로 덮어씀 (ex. "jwt.stateless=true")
+        for (String override : overrides) {
+            int index = override.indexOf('=');
+            properties.put(override.substring(0, index), override.substring(index + 1));
+        }
+
+        String[] args = properties.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(MyTodoListApplication.class).run(args);
+    }
+}
@@ -0,0 +1,60 @@
+package com.hyeonuk.todo.integ;
+
+import com.hyeonuk.todo.integ.validation.ColumnLength;
+import com.hyeonuk.todo.integ.validation.ColumnLengthValidator;
+import com.hyeonuk.todo.member.entity.Member;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컬럼 길이 검사 비교
+ * - reflection : 기존 Member.validationLength. 호출마다 필드와 annotation을 조회하고 setAccessible 호출
+ * - cached : ColumnLengthValidator. 클래스마다 한번만 MethodHandle을 만들어서 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ColumnLengthBenchmark {
+    private Member member;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        member = Member.builder()
+                .id("bench01")
+                .email("bench01@gmail.com")
+                .name("bench")
+                .password("$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ")
+                .description("description")
+                .build();
+    }
+
+    @Benchmark
+    public Member reflection() {
+        for (Field field : member.getClass().getDeclaredFields()) {
+            ColumnLength columnLength = field.getAnnotation(ColumnLength.class);
+            if (columnLength != null) {
+                int maxLength = columnLength.value();
+                field.setAccessible(true);
+
+                try {
+                    String value = (String) field.get(member);
+                    if (value != null && value.length() > maxLength) {
+                        throw new DataIntegrityViolationException("Field " + field.getName() + " exceeds maximum length of " + maxLength);
+                    }
+                } catch (IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+        return member;
+    }
+
+    @Benchmark
+    public Member cached() {
+        ColumnLengthValidator.validate(member);
+        return member;
+    }
+}
@@ -0,0 +1,104 @@
+package com.hyeonuk.todo.member;
+
+import com.hyeonuk.todo.BenchmarkContext;
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 성공 시 항상 save하는 방식과 변경된 값이 있을 때만 save하는 방식 비교
+ * 호출당 실행된 sql 수(statements)와 update된 row 수(updates)를 함께 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoginWriteBenchmark {
+    //변경 전 merge가 보내던 update. @DynamicUpdate 이전이므로 값이 같아도 모든 컬럼을 씀
+    private static final String FULL_ROW_UPDATE = "update Member m set m.email = m.email, m.password = m.password, " +
+            "m.name = m.name, m.img = m.img, m.description = m.description, " +
+            "m.tryCount = 0, m.blockedTime = null, m.updatedAt = :now where m.id = :id";
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager em;
+    private Statistics statistics;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long statements;
+        public long updates;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("spring.jpa.properties.hibernate.generate_statistics=true");
+
+        Member member = Member.builder()
+                .id("bench01")
+                .email("bench01@gmail.com")
+                .name("bench")
+                .password("password")
+                .build();
+        member.setRoles(new ArrayList<>(List.of(Authority.builder().name("ROLE_USER").build())));
+        memberRepository = context.getBean(MemberRepository.class);
+        memberRepository.save(member);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        em = context.getBean(EntityManager.class);
+
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    //변경 전 : 로그인마다 트랜잭션 안에서 회원을 조회하고 tryCount를 0으로 쓰는 전체 컬럼 update를 실행
+    //지금의 Member는 @DynamicUpdate이고 같은 값은 변경 감지에서 걸러지므로 save로는 재현되지 않아 update를 직접 실행
+    @Benchmark
+    public Member alwaysSave(Counters counters) {
+        long statements = statistics.getPrepareStatementCount();
+
+        Member member = transactionTemplate.execute(status -> {
+            Member found = memberRepository.findById("bench01").orElseThrow();
+            counters.updates += em.createQuery(FULL_ROW_UPDATE)
+                    .setParameter("now", LocalDateTime.now())
+                    .setParameter("id", found.getId())
+                    .executeUpdate();
+            return found;
+        });
+
+        counters.statements += statistics.getPrepareStatementCount() - statements;
+        return member;
+    }
+
+    //변경 후 : 트랜잭션 없이 조회만 하고, 잠금 값이 남아있을 때만 save
+    @Benchmark
+    public Member saveWhenChanged(Counters counters) {
+        long statements = statistics.getPrepareStatementCount();
+        long updates = statistics.getEntityUpdateCount();
+
+        Member member = memberRepository.findById("bench01").orElseThrow();
+        if (member.loginSuccess()) {
+            member = memberRepository.save(member);
+        }
+
+        counters.statements += statistics.getPrepareStatementCount() - statements;
+        counters.updates += statistics.getEntityUpdateCount() - updates;
+        return member;
+    }
+}
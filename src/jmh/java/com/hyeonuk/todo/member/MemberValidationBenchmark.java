@@ -0,0 +1,79 @@
+package com.hyeonuk.todo.member;
+
+import com.hyeonuk.todo.member.validator.MemberValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 회원가입 입력값 검사 비교 (정규식이 빠를까? 아니면 for문이 빠를까?)
+ * - regex : 기존 방식. 호출마다 Pattern.matches로 compile
+ * - precompiled : 미리 compile한 Pattern 사용
+ * - scanner : MemberValidator의 for문 검사
+ * 통과하는 입력값(valid)과 마지막 글자에서 실패하는 입력값(invalid)을 각각 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberValidationBenchmark {
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private String id;
+    private String email;
+    private String password;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean valid = "valid".equals(input);
+        id = valid ? "dummyUser01" : "dummyUser0_";
+        email = valid ? "dummy.user@gmail.com" : "dummy.user@gmail.c";
+        password = valid ? "Abcdefg123!" : "Abcdefg123!(";
+    }
+
+    @Benchmark
+    public boolean idRegex() {
+        return Pattern.matches(MemberValidator.ID_PATTERN.pattern(), id);
+    }
+
+    @Benchmark
+    public boolean idPrecompiled() {
+        return MemberValidator.ID_PATTERN.matcher(id).matches();
+    }
+
+    @Benchmark
+    public boolean idScanner() {
+        return MemberValidator.isValidId(id);
+    }
+
+    @Benchmark
+    public boolean emailRegex() {
+        return Pattern.matches(MemberValidator.EMAIL_PATTERN.pattern(), email);
+    }
+
+    @Benchmark
+    public boolean emailPrecompiled() {
+        return MemberValidator.EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean emailScanner() {
+        return MemberValidator.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean passwordRegex() {
+        return Pattern.matches(MemberValidator.PASSWORD_PATTERN.pattern(), password);
+    }
+
+    @Benchmark
+    public boolean passwordPrecompiled() {
+        return MemberValidator.PASSWORD_PATTERN.matcher(password).matches();
+    }
+
+    @Benchmark
+    public boolean passwordScanner() {
+        return MemberValidator.isValidPassword(password);
+    }
+}
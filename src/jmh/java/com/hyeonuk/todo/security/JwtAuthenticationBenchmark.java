@@ -0,0 +1,63 @@
+package com.hyeonuk.todo.security;
+
+import com.hyeonuk.todo.BenchmarkContext;
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.security.service.JwtProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 Member를 조회하는 인증(stateless=false)과 토큰의 claim만 사용하는 인증(stateless=true) 비교
+ * 회원 snapshot cache와 2차 cache를 끄고 매번 서명 검증부터 하도록 getAuthentication을 호출하므로 stateless=false는 매번 DB를 조회함
+ * stateless=true는 DB 대신 cache서버에서 무효화 여부만 조회함 (redis 필요)
+ * H2는 같은 프로세스 안에 있으므로 실제 MySQL 왕복 비용은 이 결과보다 큼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class JwtAuthenticationBenchmark {
+    @Param({"false", "true"})
+    public boolean stateless;
+
+    private ConfigurableApplicationContext context;
+    private JwtProvider jwtProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("jwt.stateless=" + stateless,
+                "member.cache.ttl=0",
+                "member.cache.redis=false",
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=false");
+
+        Member member = Member.builder()
+                .id("bench01")
+                .email("bench01@gmail.com")
+                .name("bench")
+                .password("password")
+                .build();
+        member.setRoles(new ArrayList<>(List.of(Authority.builder().name("ROLE_USER").build())));
+        context.getBean(MemberRepository.class).save(member);
+
+        jwtProvider = context.getBean(JwtProvider.class);
+        token = jwtProvider.createToken(member.getId(), member.getRoles());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtProvider.getAuthentication(token);
+    }
+}
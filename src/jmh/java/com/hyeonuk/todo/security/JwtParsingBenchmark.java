@@ -0,0 +1,65 @@
+package com.hyeonuk.todo.security;
+
+import com.hyeonuk.todo.BenchmarkContext;
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.security.service.JwtFailureRecorder;
+import com.hyeonuk.todo.security.service.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 토큰 처리 비용 비교
+ * legacy : isValidToken + getId 에서 매번 parser를 만들고 서명을 두번 검증하던 기존 방식
+ * parseOnce : 미리 만들어둔 parser로 한번만 검증하고 claim을 재사용하는 방식
+ * rejectMalformed : 형식이 잘못된 토큰이 서명 검증 전에 거절되는 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class JwtParsingBenchmark {
+    private JwtProvider jwtProvider;
+    private String token;
+    private String malformedToken = "not-a-jwt<script>";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtProvider = new JwtProvider(BenchmarkContext.SECRET_KEY, 3600000L, true, null, null, null,
+                new JwtFailureRecorder(new SimpleMeterRegistry(), 10000));
+        token = jwtProvider.createToken("bench01", List.of(Authority.builder().name("ROLE_USER").build()));
+    }
+
+    @Benchmark
+    public String legacy() {
+        boolean valid = !Jwts.parserBuilder().setSigningKey(BenchmarkContext.SECRET_KEY.getBytes()).build()
+                .parseClaimsJws(token)
+                .getBody().getExpiration().before(new Date());
+        if (!valid) {
+            return null;
+        }
+        return Jwts.parserBuilder()
+                .setSigningKey(BenchmarkContext.SECRET_KEY.getBytes(StandardCharsets.UTF_8))
+                .build()
+                .parseClaimsJws(token)
+                .getBody().getSubject();
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        Optional<Claims> claims = jwtProvider.parseClaims(token);
+        return claims.map(Claims::getSubject).orElse(null);
+    }
+
+    @Benchmark
+    public boolean rejectMalformed() {
+        return jwtProvider.isValidToken(malformedToken);
+    }
+}
@@ -0,0 +1,107 @@
+package com.hyeonuk.todo.todo;
+
+import com.hyeonuk.todo.BenchmarkContext;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.todo.dto.CategoryDeleteDTO;
+import com.hyeonuk.todo.todo.entity.Category;
+import com.hyeonuk.todo.todo.entity.Todo;
+import com.hyeonuk.todo.todo.repository.CategoryRepository;
+import com.hyeonuk.todo.todo.repository.TodoRepository;
+import com.hyeonuk.todo.todo.service.CategoryService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * todo 10,000개가 달린 카테고리 하나를 삭제하는 비용 비교
+ * - entity : 하위 todo와 카테고리를 엔티티로 불러온 뒤 remove (todo 수만큼 delete 문)
+ * - bulk : CategoryService.delete. todo delete 1번 + category delete 1번
+ * 매 호출 전에 jdbc로 카테고리와 todo를 다시 넣으므로 SingleShotTime으로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+public class CategoryDeleteBenchmark {
+    private static final String MEMBER_ID = "bench01";
+    private static final long CATEGORY_ID = 1L;
+    private static final int ROWS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TodoRepository todoRepository;
+    private EntityManager entityManager;
+    private CategoryRepository categoryRepository;
+    private CategoryService categoryService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+
+        context.getBean(MemberRepository.class).save(Member.builder()
+                .id(MEMBER_ID)
+                .email("bench01@gmail.com")
+                .name("bench")
+                .password("password")
+                .build());
+
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        todoRepository = context.getBean(TodoRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+        categoryService = context.getBean(CategoryService.class);
+    }
+
+    //id는 sequence를 거치지 않고 직접 지정
+    @Setup(Level.Invocation)
+    public void insertCategory() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("insert into category (category_id, member_id, title, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                CATEGORY_ID, MEMBER_ID, "category", now, now);
+
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{(long) i + 1, MEMBER_ID, CATEGORY_ID, "todo" + i, false, now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into todo (todo_id, member_id, category_id, content, complete, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int entity() {
+        return transactionTemplate.execute(status -> {
+            Category category = categoryRepository.findById(CATEGORY_ID).orElseThrow();
+            List<Todo> todos = entityManager.createQuery("select t from Todo t where t.category.id = :categoryId", Todo.class)
+                    .setParameter("categoryId", CATEGORY_ID)
+                    .getResultList();
+            todoRepository.deleteAll(todos);
+            categoryRepository.delete(category);
+            return todos.size();
+        });
+    }
+
+    @Benchmark
+    public boolean bulk() throws Exception {
+        return categoryService.delete(CategoryDeleteDTO.Request.builder()
+                .userId(MEMBER_ID)
+                .categoryId(CATEGORY_ID)
+                .build()).isResult();
+    }
+}
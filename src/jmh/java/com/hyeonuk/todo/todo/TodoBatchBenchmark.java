@@ -0,0 +1,117 @@
+package com.hyeonuk.todo.todo;
+
+import com.hyeonuk.todo.BenchmarkContext;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.todo.dto.TodoBatchCompleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoBatchUpdateDTO;
+import com.hyeonuk.todo.todo.dto.TodoToggleDTO;
+import com.hyeonuk.todo.todo.dto.TodoUpdateDTO;
+import com.hyeonuk.todo.todo.entity.Todo;
+import com.hyeonuk.todo.todo.repository.TodoRepository;
+import com.hyeonuk.todo.todo.service.TodoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * todo n개를 변경하는 비용 비교
+ * - each : 기존 api를 todo마다 한번씩 호출 (n개의 트랜잭션)
+ * - batch : batch api를 한번 호출 (1개의 트랜잭션, IN 조회로 소유자 확인, jdbc batch)
+ * 한 번의 연산 = todo n개 처리
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TodoBatchBenchmark {
+    private static final String MEMBER_ID = "bench01";
+
+    @Param({"10", "100"})
+    public int n;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private List<Long> todoIds;
+    private int version;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+
+        Member member = context.getBean(MemberRepository.class).save(Member.builder()
+                .id(MEMBER_ID)
+                .email("bench01@gmail.com")
+                .name("bench")
+                .password("password")
+                .build());
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            todos.add(Todo.builder()
+                    .member(member)
+                    .content("todo" + i)
+                    .build());
+        }
+        todoIds = context.getBean(TodoRepository.class).saveAll(todos).stream()
+                .map(Todo::getId)
+                .toList();
+        todoService = context.getBean(TodoService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int updateEach() throws Exception {
+        String content = "updated" + (version++);
+        for (Long todoId : todoIds) {
+            todoService.update(TodoUpdateDTO.Request.builder()
+                    .userId(MEMBER_ID)
+                    .todoId(todoId)
+                    .content(content)
+                    .build());
+        }
+        return todoIds.size();
+    }
+
+    @Benchmark
+    public int updateBatch() throws Exception {
+        String content = "updated" + (version++);
+        List<TodoBatchUpdateDTO.Change> changes = new ArrayList<>(todoIds.size());
+        for (Long todoId : todoIds) {
+            changes.add(TodoBatchUpdateDTO.Change.builder()
+                    .todoId(todoId)
+                    .content(content)
+                    .build());
+        }
+        return todoService.updateAll(TodoBatchUpdateDTO.Request.builder()
+                .userId(MEMBER_ID)
+                .changes(changes)
+                .build()).getTodoIds().size();
+    }
+
+    @Benchmark
+    public int completeEach() throws Exception {
+        for (Long todoId : todoIds) {
+            todoService.toggle(TodoToggleDTO.Request.builder()
+                    .userId(MEMBER_ID)
+                    .todoId(todoId)
+                    .build());
+        }
+        return todoIds.size();
+    }
+
+    @Benchmark
+    public int completeBatch() throws Exception {
+        return todoService.completeAll(TodoBatchCompleteDTO.Request.builder()
+                .userId(MEMBER_ID)
+                .todoIds(todoIds)
+                .complete((version++ & 1) == 0)
+                .build()).getTodoIds().size();
+    }
+}
@@ -0,0 +1,93 @@
+package com.hyeonuk.todo.todo;
+
+import com.hyeonuk.todo.BenchmarkContext;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.todo.entity.Category;
+import com.hyeonuk.todo.todo.entity.Todo;
+import com.hyeonuk.todo.todo.repository.CategoryRepository;
+import com.hyeonuk.todo.todo.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * todo 1,000개를 한 트랜잭션에서 저장하는 비용
+ * pooled sequence로 바꾼 뒤에는 insert가 batch_size만큼 묶여서 전송됨
+ * batchSize=1은 IDENTITY를 사용하던 이전처럼 한 행씩 전송하는 경우와 같음
+ * 실제 MySQL에서 측정할 때는 url에 rewriteBatchedStatements=true를 추가해야 multi-row insert로 전송됨
+ * ex) -Dbench.datasource.url=jdbc:mysql://localhost:3306/todo?rewriteBatchedStatements=true
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TodoInsertBenchmark {
+    private static final int ROWS = 1_000;
+
+    @Param({"1", "100"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Member member;
+    private Category category;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long statements;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "spring.jpa.properties.hibernate.generate_statistics=true");
+
+        member = context.getBean(MemberRepository.class).save(Member.builder()
+                .id("bench01")
+                .email("bench01@gmail.com")
+                .name("bench")
+                .password("password")
+                .build());
+        category = context.getBean(CategoryRepository.class).save(Category.builder()
+                .member(member)
+                .title("일반")
+                .build());
+
+        todoRepository = context.getBean(TodoRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int insert(Counters counters) {
+        List<Todo> todos = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            todos.add(Todo.builder()
+                    .member(member)
+                    .category(category)
+                    .content("todo" + i)
+                    .build());
+        }
+
+        long statements = statistics.getPrepareStatementCount();
+        transactionTemplate.executeWithoutResult(status -> todoRepository.saveAll(todos));
+        counters.statements += statistics.getPrepareStatementCount() - statements;
+        return todos.size();
+    }
+}
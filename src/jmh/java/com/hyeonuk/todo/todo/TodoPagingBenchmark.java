@@ -0,0 +1,113 @@
+package com.hyeonuk.todo.todo;
+
+import com.hyeonuk.todo.BenchmarkContext;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.todo.dto.TodoListDTO;
+import com.hyeonuk.todo.todo.entity.Todo;
+import com.hyeonuk.todo.todo.service.TodoService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 회원의 todo 100,000개에서 page번째 페이지를 조회하는 비용 비교
+ * - offset : order by + limit/offset. 앞 페이지의 행을 모두 읽고 버림
+ * - keyset : TodoService.findTodos. 이전 페이지 마지막 todo의 (complete, createdAt, todoId) 이후부터 index를 읽음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoPagingBenchmark {
+    private static final String MEMBER_ID = "bench01";
+    private static final int ROWS = 100_000;
+    private static final int SIZE = 20;
+
+    @Param({"0", "100", "2500", "4999"})
+    public int page;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private TodoService todoService;
+    private TodoListDTO.Cursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+
+        context.getBean(MemberRepository.class).save(Member.builder()
+                .id(MEMBER_ID)
+                .email("bench01@gmail.com")
+                .name("bench")
+                .password("password")
+                .build());
+
+        //절반은 완료된 todo. 생성시각은 1초 간격. id는 sequence를 거치지 않고 직접 지정
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            rows.add(new Object[]{(long) i + 1, MEMBER_ID, "todo" + i, i % 2 == 0, createdAt, createdAt});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "insert into todo (todo_id, member_id, content, complete, created_at, updated_at) values (?, ?, ?, ?, ?, ?)", rows);
+
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        todoService = context.getBean(TodoService.class);
+
+        //page번째 페이지의 cursor = 이전 페이지의 마지막 todo
+        if (page > 0) {
+            Todo last = offsetPage(page * SIZE - 1, 1).get(0);
+            cursor = TodoListDTO.Cursor.builder()
+                    .complete(last.isComplete())
+                    .createdAt(last.getCreatedAt())
+                    .todoId(last.getId())
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Todo> offset() {
+        return offsetPage(page * SIZE, SIZE);
+    }
+
+    @Benchmark
+    public TodoListDTO.Response keyset() throws Exception {
+        return todoService.findTodos(TodoListDTO.Request.builder()
+                .userId(MEMBER_ID)
+                .complete(cursor == null ? null : cursor.isComplete())
+                .createdAt(cursor == null ? null : cursor.getCreatedAt())
+                .todoId(cursor == null ? null : cursor.getTodoId())
+                .size(SIZE)
+                .build());
+    }
+
+    private List<Todo> offsetPage(int offset, int size) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            return em.createQuery("select t from Todo t " +
+                            "left join fetch t.category c " +
+                            "where t.member.id = :memberId " +
+                            "order by t.complete asc, t.createdAt desc, t.id desc", Todo.class)
+                    .setParameter("memberId", MEMBER_ID)
+                    .setFirstResult(offset)
+                    .setMaxResults(size)
+                    .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hyeonuk.todo.integ.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+    //MySQL Connector/J는 기본적으로 fetch size를 무시하고 결과 전체를 메모리에 올림
+    //useCursorFetch를 켜야 TodoRepository.streamTodoViewsByMemberId가 fetch size 단위로 읽음
+    //H2(test, benchmark)에는 없는 옵션이므로 url이 mysql일 때만 추가하고, pool이 시작되기 전에 넣어야 함
+    @Bean
+    public static BeanPostProcessor mysqlCursorFetchPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                    dataSource.addDataSourceProperty("useCursorFetch", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
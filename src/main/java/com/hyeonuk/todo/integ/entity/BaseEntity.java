@@ -1,5 +1,6 @@
 package com.hyeonuk.todo.integ.entity;
 
+import com.hyeonuk.todo.integ.validation.ColumnLengthListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
@@ -11,7 +12,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, ColumnLengthListener.class})
 @Getter
 public abstract class BaseEntity {
     @CreatedDate
@@ -12,10 +12,18 @@ import java.util.Map;
 public class XssFilterRequestWrapper extends HttpServletRequestWrapper {
     private byte[] raw;
 
+    //body를 거치지 않는 입력값(import 파일 등)에도 같은 치환을 적용할 수 있도록 분리
+    public static String escape(String strData) {
+        if (strData == null) {
+            return null;
+        }
+        return strData.replaceAll("\\<", "&lt;").replaceAll("\\>", "&gt;").replaceAll("\\(", "&#40;").replaceAll("\\)", "&#41;");
+    }
+
     public String xssFilter(String strData) {
         try {
             if (strData != null) {
-                strData = URLDecoder.decode(strData.replaceAll("\\<", "&lt;").replaceAll("\\>", "&gt;").replaceAll("\\(", "&#40;").replaceAll("\\)", "&#41;"), "UTF-8");
+                strData = URLDecoder.decode(escape(strData), "UTF-8");
             }
             return strData;
         } catch (UnsupportedEncodingException e) {//지원하지않는 인코딩타입. 지원하지 않는 타입이라면 null을 반환하도록
@@ -0,0 +1,91 @@
+package com.hyeonuk.todo.integ.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+//RFC 4180 형식의 csv를 한 레코드씩 읽고 씀. 파일 전체를 메모리에 올리지 않음
+public class CsvUtils {
+    //다음 레코드의 필드 목록. 더 읽을 레코드가 없으면 null
+    //따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 두번 쓴 따옴표("")를 처리함
+    public static List<String> readRecord(Reader reader) throws IOException {
+        return readRecord(reader, Integer.MAX_VALUE);
+    }
+
+    //레코드 하나가 maxLength 글자를 넘으면 끝까지 읽지 않고 RecordTooLongException
+    //따옴표가 닫히지 않은 입력이 파일 끝까지 한 필드로 쌓이는 것을 막음
+    public static List<String> readRecord(Reader reader, int maxLength) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int length = 0;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (++length > maxLength) {
+                throw new RecordTooLongException(maxLength);
+            }
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                int next = reader.read();
+                if (next == '"') {
+                    field.append('"');
+                    continue;
+                }
+                quoted = false;
+                if (next == -1) {
+                    break;
+                }
+                reader.reset();
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    public static class RecordTooLongException extends IOException {
+        public RecordTooLongException(int maxLength) {
+            super("record is longer than " + maxLength);
+        }
+    }
+
+    //쉼표, 따옴표, 줄바꿈이 포함된 필드만 따옴표로 감싸서 한 줄로 만듦. null은 빈 필드
+    public static String toRecord(String... fields) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String field = fields[i];
+            if (field == null) {
+                continue;
+            }
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                sb.append('"').append(field.replace("\"", "\"\"")).append('"');
+            } else {
+                sb.append(field);
+            }
+        }
+        return sb.append('\n').toString();
+    }
+}
@@ -1,12 +1,13 @@
-package com.hyeonuk.todo.member.data;
+package com.hyeonuk.todo.integ.validation;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+//문자열 컬럼의 최대 길이. 저장/수정 전에 ColumnLengthListener가 검사함
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
-public @interface MemberColumnLength {
-    MEMBER_MAX_LENGTH length();
+public @interface ColumnLength {
+    int value();
 }
@@ -0,0 +1,13 @@
+package com.hyeonuk.todo.integ.validation;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+//BaseEntity를 상속한 모든 entity의 저장/수정 전에 컬럼 길이를 검사
+public class ColumnLengthListener {
+    @PrePersist
+    @PreUpdate
+    public void validate(Object entity) {
+        ColumnLengthValidator.validate(entity);
+    }
+}
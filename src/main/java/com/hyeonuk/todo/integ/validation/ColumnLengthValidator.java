@@ -0,0 +1,79 @@
+package com.hyeonuk.todo.integ.validation;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+//@ColumnLength가 붙은 필드의 길이 검사
+//entity 클래스마다 처음 한번만 필드를 reflection으로 찾아서 getter MethodHandle을 만들어두고 이후에는 재사용
+public final class ColumnLengthValidator {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<List<Column>> COLUMNS = new ClassValue<>() {
+        @Override
+        protected List<Column> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private ColumnLengthValidator() {
+    }
+
+    public static void validate(Object entity) {
+        for (Column column : COLUMNS.get(entity.getClass())) {
+            column.validate(entity);
+        }
+    }
+
+    //검사할 필드가 하나도 없는 클래스는 빈 list가 cache됨
+    private static List<Column> resolve(Class<?> type) {
+        List<Column> columns = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int maxLength = maxLength(field);
+                if (maxLength < 0) {
+                    continue;
+                }
+                if (field.getType() != String.class) {
+                    throw new IllegalStateException("Field " + field.getName() + " of " + type.getName() + " is not a String");
+                }
+                columns.add(new Column(field.getName(), maxLength, getter(current, field)));
+            }
+        }
+        return List.copyOf(columns);
+    }
+
+    private static int maxLength(Field field) {
+        ColumnLength columnLength = field.getAnnotation(ColumnLength.class);
+        return columnLength == null ? -1 : columnLength.value();
+    }
+
+    private static MethodHandle getter(Class<?> owner, Field field) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+                    .unreflectGetter(field)
+                    .asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Column(String name, int maxLength, MethodHandle getter) {
+        void validate(Object entity) {
+            Object value;
+            try {
+                value = getter.invokeExact(entity);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            if (value != null && ((String) value).length() > maxLength) {
+                throw new DataIntegrityViolationException("Field " + name + " exceeds maximum length of " + maxLength);
+            }
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.hyeonuk.todo.integ.dto.ErrorMessageDTO;
 import com.hyeonuk.todo.integ.exception.AlreadyExistException;
 import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
 import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.member.dto.AvailableDTO;
 import com.hyeonuk.todo.member.dto.LoginDTO;
+import com.hyeonuk.todo.member.dto.RefreshDTO;
 import com.hyeonuk.todo.member.dto.SaveDTO;
 import com.hyeonuk.todo.member.exception.LoginException;
 import com.hyeonuk.todo.member.exception.SaveException;
@@ -13,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -31,6 +35,20 @@ public class MemberAuthController {
         }
     }
 
+    @PostMapping(value = "/refresh",produces = "application/json;charset=utf-8",consumes = "application/json;charset=utf-8")
+    public ResponseEntity<LoginDTO.Response> refresh(@RequestBody RefreshDTO.Request dto) throws LoginException {
+        return new ResponseEntity<>(memberAuthService.refresh(dto), HttpStatus.OK);
+    }
+
+    //로그인한 사용자의 토큰을 모두 무효화하고 refresh token을 폐기
+    //access token은 stateless 모드에서만 무효화 여부를 확인하며, stateful 모드에서는 만료될 때까지 사용 가능
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal UserDetails userDetails,
+                                       @RequestBody(required = false) RefreshDTO.Request dto) {
+        memberAuthService.logout(userDetails.getUsername(), dto);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     @PostMapping("/regist")
     public ResponseEntity<SaveDTO.Response> regist(@RequestBody SaveDTO.Request dto) throws AlreadyExistException,ValidationException,SaveException{
         try{
@@ -42,6 +60,21 @@ public class MemberAuthController {
         }
     }
 
+    //회원가입 입력 중 아이디, 이메일 사용 가능 여부 확인
+    @GetMapping(value = "/available/id",produces = "application/json;charset=utf-8")
+    public ResponseEntity<AvailableDTO.Response> availableId(@RequestParam("id") String id) throws ValidationException {
+        return new ResponseEntity<>(AvailableDTO.Response.builder()
+                .available(memberAuthService.isIdAvailable(id))
+                .build(), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/available/email",produces = "application/json;charset=utf-8")
+    public ResponseEntity<AvailableDTO.Response> availableEmail(@RequestParam("email") String email) throws ValidationException {
+        return new ResponseEntity<>(AvailableDTO.Response.builder()
+                .available(memberAuthService.isEmailAvailable(email))
+                .build(), HttpStatus.OK);
+    }
+
     @ExceptionHandler({AlreadyExistException.class,ValidationException.class,SaveException.class})
     public ResponseEntity<ErrorMessageDTO> badRequestErrorHandler(Exception e){
         return new ResponseEntity<>(ErrorMessageDTO.builder()
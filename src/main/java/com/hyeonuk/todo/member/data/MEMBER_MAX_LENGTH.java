@@ -1,7 +1,11 @@
 package com.hyeonuk.todo.member.data;
 
+import com.hyeonuk.todo.member.entity.Member;
+
+//검증 로직에서 사용하는 회원 컬럼 길이. 값은 Member의 @ColumnLength 상수를 그대로 사용
 public enum MEMBER_MAX_LENGTH{
-    ID(20),EMAIL(255),PASSWORD(255),NAME(50),IMG(255),DESC(500);
+    ID(Member.ID_MAX_LENGTH),EMAIL(Member.EMAIL_MAX_LENGTH),PASSWORD(Member.PASSWORD_MAX_LENGTH),
+    NAME(Member.NAME_MAX_LENGTH),IMG(Member.IMG_MAX_LENGTH),DESC(Member.DESC_MAX_LENGTH);
 
     public final int value;
 
@@ -0,0 +1,13 @@
+package com.hyeonuk.todo.member.dto;
+
+import lombok.*;
+
+public class AvailableDTO {//회원가입 입력 중 아이디, 이메일 사용 가능 여부 확인
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Response{
+        private boolean available;
+    }
+}
@@ -30,5 +30,6 @@ public class LoginDTO {
     @Setter
     public static class Response{
         private String accessToken;
+        private String refreshToken;
     }
 }
@@ -0,0 +1,14 @@
+package com.hyeonuk.todo.member.dto;
+
+import lombok.*;
+
+public class RefreshDTO {
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    public static class Request{
+        private String refreshToken;
+    }
+}
@@ -1,14 +1,14 @@
 package com.hyeonuk.todo.member.entity;
 
-import com.hyeonuk.todo.member.data.MemberColumnLength;
-import com.hyeonuk.todo.member.data.MEMBER_MAX_LENGTH;
 import com.hyeonuk.todo.integ.entity.BaseEntity;
+import com.hyeonuk.todo.integ.validation.ColumnLength;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.hibernate.annotations.DynamicUpdate;
 
-import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,34 +18,48 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
 public class Member extends BaseEntity {
+    public static final int ID_MAX_LENGTH = 20;
+    public static final int EMAIL_MAX_LENGTH = 255;
+    public static final int PASSWORD_MAX_LENGTH = 255;
+    public static final int NAME_MAX_LENGTH = 50;
+    public static final int IMG_MAX_LENGTH = 255;
+    public static final int DESC_MAX_LENGTH = 500;
+
     @Id
     @Column(name="id")
-    @MemberColumnLength(length = MEMBER_MAX_LENGTH.ID)
+    @ColumnLength(ID_MAX_LENGTH)
     private String id;
 
     public void changeEmail(String email){
         this.email=email;
     }
 
+    public void changePassword(String password){
+        this.password=password;
+    }
+
     @Column(name="email",unique = true,nullable = false)
-    @MemberColumnLength(length = MEMBER_MAX_LENGTH.EMAIL)
+    @ColumnLength(EMAIL_MAX_LENGTH)
     private String email;
 
     @Column(name="password",nullable=false)
-    @MemberColumnLength(length = MEMBER_MAX_LENGTH.PASSWORD)
+    @ColumnLength(PASSWORD_MAX_LENGTH)
     private String password;
 
     @Column(name="name",nullable = false)
-    @MemberColumnLength(length = MEMBER_MAX_LENGTH.NAME)
+    @ColumnLength(NAME_MAX_LENGTH)
     private String name;
 
     @Column(name="img")
-    @MemberColumnLength(length = MEMBER_MAX_LENGTH.IMG)
+    @ColumnLength(IMG_MAX_LENGTH)
     private String img;
 
     @Column(name="description")
-    @MemberColumnLength(length = MEMBER_MAX_LENGTH.DESC)
+    @ColumnLength(DESC_MAX_LENGTH)
     private String description;
 
     //secret
@@ -56,7 +70,9 @@ public class Member extends BaseEntity {
     @Column(name="blocked_time")
     private LocalDateTime blockedTime;
 
-    @OneToMany(mappedBy = "member", fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    //권한은 로그인과 인증 정보를 만들 때만 필요하므로 지연 로딩. 함께 필요하면 findWithRolesById로 조회
+    @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member.roles")
     @Builder.Default
     private List<Authority> roles = new ArrayList<>();
 
@@ -65,9 +81,14 @@ public class Member extends BaseEntity {
         role.forEach(r->r.setMember(this));
     }
 
-    public void loginSuccess(){
+    //값이 바뀐 경우에만 true를 리턴해서 불필요한 update를 하지 않도록 함
+    public boolean loginSuccess(){
+        if (this.tryCount == 0 && this.blockedTime == null) {
+            return false;
+        }
         this.tryCount = 0;
         this.blockedTime = null;
+        return true;
     }
     public void loginFail(){
         this.tryCount++;//횟수 1 증가
@@ -76,25 +97,4 @@ public class Member extends BaseEntity {
             this.blockedTime = LocalDateTime.now().plusSeconds(3*60);//정해진 시간동안 block
         }
     }
-
-    @PreUpdate
-    @PrePersist
-    public void validationLength(){
-        for(Field field : this.getClass().getDeclaredFields()){
-            MemberColumnLength memberColumnLength = field.getAnnotation(MemberColumnLength.class);
-            if(memberColumnLength != null) {
-                MEMBER_MAX_LENGTH maxLength = memberColumnLength.length();
-                field.setAccessible(true);
-
-                try {
-                    String value = (String) field.get(this);
-                    if (value != null && value.length() > maxLength.getValue()) {
-                        throw new DataIntegrityViolationException("Field " + field.getName() + " exceeds maximum length of " + maxLength.getValue());
-                    }
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-        }
-    }
 }
@@ -1,11 +1,45 @@
 package com.hyeonuk.todo.member.repository;
 
 import com.hyeonuk.todo.member.entity.Member;
+import org.hibernate.Hibernate;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member,String> {
     Optional<Member> findByEmail(String email);
+
+    //권한이 필요한 로그인, 인증 정보 조회에서만 사용. 회원과 권한을 join 한번으로 조회
+    @EntityGraph(attributePaths = "roles")
+    Optional<Member> findWithRolesById(String id);
+
+    //MemberSnapshotCache에서 인증 정보를 만들 때 사용. pk 조회와 지연 로딩만 하므로 2차 cache에 있으면 쿼리 없이 조회됨
+    //join으로 읽는 findWithRolesById는 2차 cache를 거치지 않음
+    @Transactional(readOnly = true)
+    default Optional<Member> findCachedWithRolesById(String id) {
+        Optional<Member> member = findById(id);
+        member.ifPresent(m -> Hibernate.initialize(m.getRoles()));
+        return member;
+    }
+
+    boolean existsByEmail(String email);
+
+    //회원가입 중복 검사. 엔티티 없이 아이디나 이메일이 겹치는 회원마다 [아이디 중복 여부, 이메일 중복 여부]를 리턴
+    //비교는 DB에서 하므로 대소문자 구분 등은 컬럼의 collation을 따름
+    @Query("select case when m.id = :id then true else false end, " +
+            "case when m.email = :email then true else false end " +
+            "from Member m where m.id = :id or m.email = :email")
+    List<Object[]> findDuplicates(@Param("id") String id, @Param("email") String email);
+
+    //TakenMemberFilter를 만들 때 사용. 아이디 순서로 afterId 다음부터 pageable 크기만큼 [id, email]
+    //offset 대신 마지막 아이디 다음부터 pk index를 읽으므로 뒤쪽 page도 읽는 행 수가 같음
+    @Query("select m.id, m.email from Member m where m.id > :afterId order by m.id")
+    List<Object[]> findIdAndEmailAfter(@Param("afterId") String afterId, Pageable pageable);
 }
@@ -0,0 +1,16 @@
+package com.hyeonuk.todo.member.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface LoginAttemptService {
+    //block된 아이디면 block이 풀리는 시각을 리턴
+    Optional<LocalDateTime> blockedUntil(String memberId);
+
+    void loginFail(String memberId);
+
+    void loginSuccess(String memberId);
+
+    //실패 횟수와 block을 모두 해제
+    void clear(String memberId);
+}
@@ -0,0 +1,71 @@
+package com.hyeonuk.todo.member.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+//로그인 실패 횟수와 block 상태를 member row 대신 cache서버의 TTL key로 관리
+@Service
+@RequiredArgsConstructor
+public class LoginAttemptServiceImpl implements LoginAttemptService {
+    private static final String FAIL_KEY_PREFIX = "login:fail:";
+    private static final String BLOCK_KEY_PREFIX = "login:block:";
+
+    //실패 횟수 증가와 만료시간 설정을 한번의 왕복으로 원자적으로 처리
+    //처음 실패한 시각부터 block 시간 동안을 연속 실패로 봄
+    private static final RedisScript<Long> INCREMENT_FAIL_SCRIPT = new DefaultRedisScript<>(
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+            "return count", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${login.max-try:3}")
+    private int maxTry;
+
+    @Value("${login.block-seconds:180}")//기본 3분
+    private long blockSeconds;
+
+    @Override
+    public Optional<LocalDateTime> blockedUntil(String memberId) {
+        String blockedUntil = redisTemplate.opsForValue().get(BLOCK_KEY_PREFIX.concat(memberId));
+        if (blockedUntil == null) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(blockedUntil)), ZoneId.systemDefault()));
+    }
+
+    @Override
+    public void loginFail(String memberId) {
+        String failKey = FAIL_KEY_PREFIX.concat(memberId);
+        Long count = redisTemplate.execute(INCREMENT_FAIL_SCRIPT, List.of(failKey), Long.toString(blockSeconds * 1000));
+
+        if (count != null && count >= maxTry) {//정해진 횟수 이상이 되면
+            long blockedUntil = System.currentTimeMillis() + blockSeconds * 1000;
+            redisTemplate.opsForValue().set(BLOCK_KEY_PREFIX.concat(memberId), Long.toString(blockedUntil),
+                    Duration.ofSeconds(blockSeconds));//정해진 시간동안 block
+            redisTemplate.delete(failKey);//실패 횟수 초기화
+            //아이디만 알면 누구나 잠글 수 있으므로 이미 로그인한 세션(발급된 토큰)은 건드리지 않고 새 로그인만 막음
+        }
+    }
+
+    @Override
+    public void loginSuccess(String memberId) {
+        redisTemplate.delete(FAIL_KEY_PREFIX.concat(memberId));
+    }
+
+    @Override
+    public void clear(String memberId) {
+        redisTemplate.delete(List.of(FAIL_KEY_PREFIX.concat(memberId), BLOCK_KEY_PREFIX.concat(memberId)));
+    }
+}
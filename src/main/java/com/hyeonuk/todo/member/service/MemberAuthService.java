@@ -4,6 +4,7 @@ import com.hyeonuk.todo.integ.exception.AlreadyExistException;
 import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
 import com.hyeonuk.todo.integ.exception.ValidationException;
 import com.hyeonuk.todo.member.dto.LoginDTO;
+import com.hyeonuk.todo.member.dto.RefreshDTO;
 import com.hyeonuk.todo.member.dto.SaveDTO;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.member.exception.LoginException;
@@ -13,6 +14,10 @@ import com.hyeonuk.todo.member.exception.SaveException;
 public interface MemberAuthService {
     SaveDTO.Response save(SaveDTO.Request dto) throws SaveException, AlreadyExistException, ValidationException;
     LoginDTO.Response login(LoginDTO.Request dto) throws ValidationException, LoginException, UserInfoNotFoundException;
+    LoginDTO.Response refresh(RefreshDTO.Request dto) throws LoginException;
+    void logout(String memberId, RefreshDTO.Request dto);
+    boolean isIdAvailable(String id) throws ValidationException;
+    boolean isEmailAvailable(String email) throws ValidationException;
 
     default SaveDTO.Response entityToSaveDTO(Member member){
         return SaveDTO.Response.builder()
@@ -7,39 +7,48 @@ import com.hyeonuk.todo.member.data.MEMBER_MAX_LENGTH;
 import com.hyeonuk.todo.integ.exception.AlreadyExistException;
 import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
 import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.security.exception.PasswordHashException;
 import com.hyeonuk.todo.security.service.JwtProvider;
+import com.hyeonuk.todo.security.service.JwtRevocationService;
+import com.hyeonuk.todo.security.service.PasswordHasher;
+import com.hyeonuk.todo.security.service.RefreshTokenService;
 import com.hyeonuk.todo.member.dto.LoginDTO;
+import com.hyeonuk.todo.member.dto.RefreshDTO;
 import com.hyeonuk.todo.member.dto.SaveDTO;
+import com.hyeonuk.todo.member.entity.Authority;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.member.exception.LoginException;
 import com.hyeonuk.todo.member.exception.SaveException;
 import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.validator.MemberValidator;
 import com.hyeonuk.todo.integ.util.StringUtils;
 import com.hyeonuk.todo.todo.entity.Category;
 import com.hyeonuk.todo.todo.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class MemberAuthServiceImpl implements MemberAuthService {
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtProvider jwtProvider;
     private final EmailAuthService emailAuthService;
     private final CategoryRepository categoryRepository;
-    private final String ID_REGEX = "^(?=.*[a-zA-Z])(?=.*\\d)[a-zA-Z\\d]{5," + MEMBER_MAX_LENGTH.ID.getValue() + "}$";
-    private final String EMAIL_REGEX = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
-    private final String PW_REGEX = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[!@#$%^&*])[a-zA-Z\\d!@#$%^&*]{8,16}$";
+    private final RefreshTokenService refreshTokenService;
+    private final JwtRevocationService jwtRevocationService;
+    private final LoginAttemptService loginAttemptService;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final TakenMemberFilter takenMemberFilter;
 
     //로그인 validation
     public void loginDtoValidation(LoginDTO.Request dto) throws ValidationException {
@@ -48,48 +57,104 @@ public class MemberAuthServiceImpl implements MemberAuthService {
             throw new ValidationException("입력값을 다시 확인해주세요");
     }
 
+    //BCrypt 검사 동안 DB connection을 잡고 있지 않도록 트랜잭션을 걸지 않음
+    //로그인 실패 횟수와 block 상태는 cache서버에서 관리하므로 실패한 로그인은 DB에 쓰지 않음
     @Override
-    @Transactional(rollbackFor = {ValidationException.class, LoginException.class, UserInfoNotFoundException.class})
     public LoginDTO.Response login(LoginDTO.Request dto) throws ValidationException, LoginException, UserInfoNotFoundException {
         try {
             //입력값 검증
             loginDtoValidation(dto);
 
-            //아이디로 검색
-            Member member = memberRepository.findById(dto.getId())
-                    .orElseThrow(() -> new UserInfoNotFoundException("잘못된 인증정보 입니다."));
-
-            //이사람의 blockedTime이 지나지 않았으면 throw Exception
-            if (member.getBlockedTime() != null && member.getBlockedTime().compareTo(LocalDateTime.now()) > 0) {
-                String format = member
-                        .getBlockedTime()
+            //block된 아이디면 DB를 조회하기 전에 throw Exception
+            Optional<LocalDateTime> blockedUntil = loginAttemptService.blockedUntil(dto.getId());
+            if (blockedUntil.isPresent()) {
+                String format = blockedUntil.get()
                         .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss 까지 로그인이 불가능합니다."));
 
                 throw new LoginException(format);
             }
 
-            //비밀번호가 일치하지 않으면 tryCount 1 증가, 3이되면 3분동안 block
-            if (!passwordEncoder.matches(dto.getPassword(), member.getPassword())) {
-                member.loginFail();
-                memberRepository.save(member);//값을 db에 갱신
+            //아이디로 검색. 존재하지 않는 아이디도 실패 횟수에 포함해서 반복 요청이 DB까지 오지 않도록 함
+            //토큰에 권한을 담아야 하므로 권한까지 함께 조회
+            Optional<Member> found = memberRepository.findWithRolesById(dto.getId());
+            if (found.isEmpty()) {
+                loginAttemptService.loginFail(dto.getId());
+                throw new UserInfoNotFoundException("잘못된 인증정보 입니다.");
+            }
+            Member member = found.get();
+
+            //비밀번호가 일치하지 않으면 실패 횟수 1 증가, 3이되면 3분동안 block
+            if (!passwordHasher.matches(dto.getPassword(), member.getPassword())) {
+                loginAttemptService.loginFail(member.getId());
                 throw new LoginException("잘못된 인증정보 입니다.");
             }
+            loginAttemptService.loginSuccess(member.getId());
+
+            //이전 방식으로 저장된 잠금 값이 남아있을 때만 변경됨
+            boolean changed = member.loginSuccess();
+
+            //저장된 hash의 cost가 설정보다 낮으면 입력받은 비밀번호로 다시 암호화해서 함께 저장
+            //pool이 바빠서 재암호화하지 못하면 다음 로그인때 다시 시도
+            if (passwordHasher.upgradeEncoding(member.getPassword())) {
+                try {
+                    member.changePassword(passwordHasher.encode(dto.getPassword()));
+                    changed = true;
+                } catch (PasswordHashException e) {
+                    log.warn("password rehash skipped : {}", e.getMessage());
+                }
+            }
 
-            member.loginSuccess();
-            memberRepository.save(member);
+            //변경된 값이 없으면 로그인은 조회만 하고 끝남
+            //회원 row가 바뀌었으므로 commit 후 snapshot cache(1차, 2차)도 비움
+            if (changed) {
+                memberRepository.save(member);
+                memberSnapshotCache.invalidate(member.getId());
+            }
             //인증 성공
             return LoginDTO.Response.builder()
                     .accessToken(jwtProvider.createToken(member.getId(), member.getRoles()))
+                    .refreshToken(refreshTokenService.issue(member.getId(), member.getRoles().stream()
+                            .map(Authority::getName)
+                            .collect(Collectors.toList())))
                     .build();
-        } catch (UserInfoNotFoundException | ValidationException e) {
+        } catch (UserInfoNotFoundException | ValidationException | LoginException e) {
             throw e;
+        } catch (PasswordHashException e) {
+            throw new LoginException(e.getMessage());
         } catch (Exception e) {
             throw new LoginException("로그인 오류");
         }
     }
 
 
-    //정규식이 빠를까? 아니면 for문이 빠를까?
+    //비밀번호 검사와 DB 조회/갱신 없이 cache서버에 저장된 refresh token만으로 토큰을 재발급
+    @Override
+    public LoginDTO.Response refresh(RefreshDTO.Request dto) throws LoginException {
+        try {
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(dto.getRefreshToken())
+                    .orElseThrow(() -> new LoginException("만료되었거나 이미 사용된 토큰입니다."));
+
+            return LoginDTO.Response.builder()
+                    .accessToken(jwtProvider.createAccessToken(rotation.memberId(), rotation.roles()))
+                    .refreshToken(rotation.refreshToken())
+                    .build();
+        } catch (LoginException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new LoginException("토큰 재발급 오류");
+        }
+    }
+
+    //이미 발급된 토큰을 모두 무효화(stateless 인증과 refresh token 재발급에서 확인)하고 전달받은 refresh token을 폐기
+    @Override
+    public void logout(String memberId, RefreshDTO.Request dto) {
+        jwtRevocationService.revokeAll(memberId);
+        if (dto != null && !StringUtils.isBlank(dto.getRefreshToken())) {
+            refreshTokenService.remove(dto.getRefreshToken());
+        }
+    }
+
+    //정규식 대신 MemberValidator의 for문 검사를 사용 (MemberValidationBenchmark 참고)
     private void saveDtoValidation(SaveDTO.Request dto) throws ValidationException {
         if (StringUtils.isBlank(dto.getId())
                 || StringUtils.isBlank(dto.getEmail())
@@ -99,7 +164,7 @@ public class MemberAuthServiceImpl implements MemberAuthService {
                 || StringUtils.isBlank(dto.getEmailAuthCode())) throw new ValidationException("입력값을 다시 확인해주세요");
 
         //아이디 : 5~20자의 영문 소문자, 대문자, 숫자만 사용이 가능합니다.(특수문자 넣으면 에러)
-        if (!Pattern.matches(ID_REGEX, dto.getId()))
+        if (!MemberValidator.isValidId(dto.getId()))
             throw new ValidationException("아이디는 5~20자의 영문 대소문자, 숫자로 이루어져야 합니다.");
 
         //이름 : 50자 이하의 이름을 입력해야함
@@ -107,10 +172,10 @@ public class MemberAuthServiceImpl implements MemberAuthService {
             throw new ValidationException("이름은 50자 이하여야 합니다.");
 
         //이메일 : 이메일 형식
-        if (!Pattern.matches(EMAIL_REGEX, dto.getEmail())) throw new ValidationException("유효한 이메일 형식이 아닙니다.");
+        if (!MemberValidator.isValidEmail(dto.getEmail())) throw new ValidationException("유효한 이메일 형식이 아닙니다.");
 
         //비밀번호 : 8~16자의 소문자, 대문자, 숫자, 특수문자로 구성되어야 합니다.
-        if (!Pattern.matches(PW_REGEX, dto.getPassword()))
+        if (!MemberValidator.isValidPassword(dto.getPassword()))
             throw new ValidationException("비밀번호는 8~16자의 소문자, 대문자, 숫자, 특수문자로 이루어져야 합니다.");
 
         //비밀번호 확인 : 위에 입력한 비밀번호와 일치해야함
@@ -129,15 +194,13 @@ public class MemberAuthServiceImpl implements MemberAuthService {
             //입력 아이디, 이메일, 비밀번호, 비밀번호 확인, 약관동의 validation 진행
             saveDtoValidation(dto);
 
-            //아이디와 이메일 중복 검사
-            Optional<Member> byId = memberRepository.findById(dto.getId());
-            if (byId.isPresent()) throw new AlreadyExistException("존재하는 아이디입니다.");
-
-            Optional<Member> byEmail = memberRepository.findByEmail(dto.getEmail());
-            if (byEmail.isPresent()) throw new AlreadyExistException("존재하는 이메일입니다.");
+            //아이디와 이메일 중복 검사. 엔티티를 만들지 않고 쿼리 한번으로 어느 쪽이 중복인지 확인
+            List<Object[]> duplicates = memberRepository.findDuplicates(dto.getId(), dto.getEmail());
+            if (duplicates.stream().anyMatch(row -> (Boolean) row[0])) throw new AlreadyExistException("존재하는 아이디입니다.");
+            if (!duplicates.isEmpty()) throw new AlreadyExistException("존재하는 이메일입니다.");
 
 //            비밀번호를 encoding
-            dto.setPassword(passwordEncoder.encode(dto.getPassword()));
+            dto.setPassword(passwordHasher.encode(dto.getPassword()));
 
             //이메일 인증번호를 cache서버에서 다시 확인
             EmailAuthCheckDTO.Response response = emailAuthService.emailAuthCheck(EmailAuthCheckDTO.Request.builder()
@@ -151,6 +214,9 @@ public class MemberAuthServiceImpl implements MemberAuthService {
 
             //최종적으로 save함
             Member member = memberRepository.save(saveDTOToEntity(dto));
+            memberSnapshotCache.invalidate(member.getId());
+            //commit 후에 filter에 반영됨. filter 오류는 가입 실패로 이어지지 않음
+            takenMemberFilter.put(member.getId(), member.getEmail());
 
             //default 카테고리를 하나 생성해서 save해줌
             Category category = Category.builder()
@@ -173,4 +239,21 @@ public class MemberAuthServiceImpl implements MemberAuthService {
         }
     }
 
+    //회원가입 입력 중 호출되는 확인. filter에 없으면 DB를 조회하지 않음
+    //실제 중복 검사는 save에서 다시 하므로 여기서는 다른 서버에서 막 가입한 값을 놓쳐도 됨
+    @Override
+    public boolean isIdAvailable(String id) throws ValidationException {
+        if (!MemberValidator.isValidId(id))
+            throw new ValidationException("아이디는 5~20자의 영문 대소문자, 숫자로 이루어져야 합니다.");
+
+        return !takenMemberFilter.mightContainId(id) || !memberRepository.existsById(id);
+    }
+
+    @Override
+    public boolean isEmailAvailable(String email) throws ValidationException {
+        if (!MemberValidator.isValidEmail(email)) throw new ValidationException("유효한 이메일 형식이 아닙니다.");
+
+        return !takenMemberFilter.mightContainEmail(email) || !memberRepository.existsByEmail(email);
+    }
+
 }
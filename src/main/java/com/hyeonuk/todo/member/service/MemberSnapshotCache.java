@@ -0,0 +1,171 @@
+package com.hyeonuk.todo.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+//회원의 id, 권한만 담은 불변 snapshot을 보관하는 read-through cache
+//잠금 상태는 LoginAttemptService(cache서버)에서 관리하므로 snapshot에 담지 않음
+//1차는 서버 내 Caffeine, member.cache.redis=true면 cache서버를 2차로 사용하고 둘 다 없을 때만 DB를 조회
+//변경 시 이 서버의 1차 cache와 2차 cache는 commit 후 바로 비우지만, 다른 서버의 1차 cache는 알릴 방법이 없음
+//따라서 member.cache.ttl이 다른 서버에 변경(권한, 탈퇴)이 반영되기까지의 최대 지연이므로 짧게 유지
+@Component
+@Slf4j
+public class MemberSnapshotCache {
+    private static final String KEY_PREFIX = "member:snapshot:";
+
+    private final Cache<String, MemberSnapshot> cache;
+
+    private final MemberRepository memberRepository;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final boolean redisEnabled;
+
+    private final Duration ttl;
+
+    private final Counter redisHit;
+
+    private final Counter redisMiss;
+
+    public MemberSnapshotCache(@Value("${member.cache.max-size:10000}") long maxSize,
+                               @Value("${member.cache.ttl:30000}") long ttl,
+                               @Value("${member.cache.redis:false}") boolean redisEnabled,
+                               MemberRepository memberRepository,
+                               StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry) {
+        this.ttl = Duration.ofMillis(ttl);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(this.ttl)
+                .recordStats()
+                .build();
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "member.snapshot");
+        Gauge.builder("member.snapshot.hit.ratio", this.cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+        this.redisHit = Counter.builder("member.snapshot.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMiss = Counter.builder("member.snapshot.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    //존재하지 않는 회원은 cache하지 않으므로 가입 직후에도 바로 조회됨
+    public Optional<MemberSnapshot> get(String memberId) {
+        if (memberId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(memberId, this::load));
+    }
+
+    public boolean exists(String memberId) {
+        return get(memberId).isPresent();
+    }
+
+    //회원 정보가 변경되면 호출. 1차, 2차 cache를 모두 비움
+    //트랜잭션 중이면 commit 전에 다른 요청이 이전 값을 다시 채울 수 있으므로 commit 후에 비움
+    public void invalidate(String memberId) {
+        Runnable task = () -> {
+            cache.invalidate(memberId);
+            if (redisEnabled) {
+                try {
+                    redisTemplate.delete(KEY_PREFIX.concat(memberId));
+                } catch (RuntimeException e) {
+                    log.warn("member snapshot evict failed : {}", e.getMessage());
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private MemberSnapshot load(String memberId) {
+        String key = KEY_PREFIX.concat(memberId);
+        if (redisEnabled) {
+            //cache서버에 문제가 있으면 DB 조회로 넘어감
+            try {
+                String value = redisTemplate.opsForValue().get(key);
+                if (value != null) {
+                    redisHit.increment();
+                    return decode(memberId, value);
+                }
+                redisMiss.increment();
+            } catch (RuntimeException e) {
+                log.warn("member snapshot read failed : {}", e.getMessage());
+            }
+        }
+
+        //DB 조회는 hibernate 2차 cache를 먼저 거침
+        MemberSnapshot snapshot = memberRepository.findCachedWithRolesById(memberId)
+                .map(MemberSnapshot::of)
+                .orElse(null);
+        if (snapshot != null && redisEnabled) {
+            try {
+                redisTemplate.opsForValue().set(key, encode(snapshot), ttl);
+            } catch (RuntimeException e) {
+                log.warn("member snapshot write failed : {}", e.getMessage());
+            }
+        }
+        return snapshot;
+    }
+
+    //"권한1,권한2" 형태로 저장
+    private String encode(MemberSnapshot snapshot) {
+        return String.join(",", snapshot.roles());
+    }
+
+    private MemberSnapshot decode(String memberId, String value) {
+        //이전 형식("권한|잠금해제시각")으로 저장된 값은 권한만 사용
+        int index = value.indexOf('|');
+        String joinedRoles = index < 0 ? value : value.substring(0, index);
+        return new MemberSnapshot(memberId,
+                joinedRoles.isEmpty() ? List.of() : Arrays.asList(joinedRoles.split(",")));
+    }
+
+    public record MemberSnapshot(String id, List<String> roles) {
+        public MemberSnapshot {
+            roles = List.copyOf(roles);
+        }
+
+        public static MemberSnapshot of(Member member) {
+            return new MemberSnapshot(member.getId(),
+                    member.getRoles().stream().map(Authority::getName).toList());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.hyeonuk.todo.member.service;
+
+import com.hyeonuk.todo.integ.util.BloomFilter;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Locale;
+
+//가입된 아이디와 이메일의 서버 내 Bloom filter
+//filter에 없으면 DB를 조회하지 않고 사용 가능으로 판단하고, 있다고 나온 경우만 DB에서 다시 확인
+//서버가 뜰 때와 rebuild-interval마다 scheduler thread에서 DB를 page 단위로 읽어 새로 만들고 다 만들어지면 교체함
+//아직 만들어지지 않았으면 모두 DB에서 확인
+//MySQL 비교는 대소문자를 구분하지 않으므로 소문자로 바꿔서 저장
+@Component
+@Slf4j
+public class TakenMemberFilter {
+    private static final String ID_PREFIX = "id:";
+    private static final String EMAIL_PREFIX = "email:";
+
+    private final MemberRepository memberRepository;
+
+    private final long expectedSize;
+
+    private final double fpp;
+
+    //rebuild 때 한번에 읽는 회원 수. 회원 수와 상관없이 이만큼만 메모리에 올라감
+    private final int pageSize;
+
+    private final Counter negative;
+
+    private final Counter positive;
+
+    //현재 사용 중인 filter
+    private volatile BloomFilter filter;
+
+    //다시 만드는 중인 filter. 만드는 동안 가입한 회원이 빠지지 않도록 put은 양쪽에 모두 넣음
+    private volatile BloomFilter building;
+
+    public TakenMemberFilter(@Value("${member.bloom.expected-size:100000}") long expectedSize,
+                             @Value("${member.bloom.fpp:0.01}") double fpp,
+                             @Value("${member.bloom.rebuild-page-size:1000}") int pageSize,
+                             MemberRepository memberRepository,
+                             MeterRegistry meterRegistry) {
+        this.expectedSize = expectedSize;
+        this.fpp = fpp;
+        this.pageSize = pageSize;
+        this.memberRepository = memberRepository;
+        this.negative = Counter.builder("member.taken.filter")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.positive = Counter.builder("member.taken.filter")
+                .tag("result", "positive")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContainId(String id) {
+        return mightContain(ID_PREFIX.concat(normalize(id)));
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(EMAIL_PREFIX.concat(normalize(email)));
+    }
+
+    //가입 트랜잭션이 commit된 후에 넣음. commit 전에는 다른 요청의 DB 조회에서도 보이지 않으므로 늦게 넣어도 됨
+    //commit 후에 넣으면 rebuild가 시작되기 전에 commit된 회원은 DB 조회 결과에 포함되고, 이후에 commit된 회원은 building에도 들어감
+    //filter 오류로 가입이 실패하지 않도록 예외를 던지지 않음
+    public void put(String id, String email) {
+        Runnable task = () -> {
+            try {
+                //교체 직후에 building만 비워진 상태를 보지 않도록 building을 먼저 읽음
+                BloomFilter next = building;
+                BloomFilter current = filter;
+                put(next, id, email);
+                put(current, id, email);
+            } catch (RuntimeException e) {
+                log.warn("taken member filter put failed : {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    //DB를 읽는 동안 lock을 잡지 않으므로 조회와 가입은 이전 filter로 계속 처리됨
+    //실패하면 이전 filter를 계속 사용하고 다음 주기에 다시 시도
+    @Scheduled(fixedDelayString = "${member.bloom.rebuild-interval:600000}")
+    public void rebuild() {
+        try {
+            long count = memberRepository.count();
+            BloomFilter rebuilt = BloomFilter.create(Math.max(expectedSize, count * 2), fpp);
+            building = rebuilt;
+
+            //page마다 filter에 넣고 버리므로 전체 회원을 한번에 list로 만들지 않음
+            String afterId = "";
+            List<Object[]> page;
+            do {
+                page = memberRepository.findIdAndEmailAfter(afterId, PageRequest.ofSize(pageSize));
+                for (Object[] row : page) {
+                    put(rebuilt, (String) row[0], (String) row[1]);
+                    afterId = (String) row[0];
+                }
+            } while (page.size() == pageSize);
+
+            filter = rebuilt;
+        } catch (RuntimeException e) {
+            log.warn("taken member filter rebuild failed : {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private boolean mightContain(String key) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return true;
+        }
+        boolean result = current.mightContain(key);
+        (result ? positive : negative).increment();
+        return result;
+    }
+
+    private void put(BloomFilter target, String id, String email) {
+        if (target == null) {
+            return;
+        }
+        target.put(ID_PREFIX.concat(normalize(id)));
+        target.put(EMAIL_PREFIX.concat(normalize(email)));
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
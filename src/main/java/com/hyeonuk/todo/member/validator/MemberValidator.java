@@ -0,0 +1,115 @@
+package com.hyeonuk.todo.member.validator;
+
+import com.hyeonuk.todo.member.data.MEMBER_MAX_LENGTH;
+
+import java.util.regex.Pattern;
+
+//회원가입 입력값 검사
+//정규식과 같은 규칙을 문자열을 한번만 순회하는 방식으로 검사함 (MemberValidationBenchmark 참고)
+public final class MemberValidator {
+    public static final int ID_MIN_LENGTH = 5;
+    public static final int PASSWORD_MIN_LENGTH = 8;
+    public static final int PASSWORD_MAX_LENGTH = 16;
+
+    //아래 검사와 같은 규칙의 정규식. 비교용으로 한번만 compile 해둠
+    public static final Pattern ID_PATTERN = Pattern.compile("^(?=.*[a-zA-Z])(?=.*\\d)[a-zA-Z\\d]{" + ID_MIN_LENGTH + "," + MEMBER_MAX_LENGTH.ID.getValue() + "}$");
+    public static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$");
+    public static final Pattern PASSWORD_PATTERN = Pattern.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[!@#$%^&*])[a-zA-Z\\d!@#$%^&*]{" + PASSWORD_MIN_LENGTH + "," + PASSWORD_MAX_LENGTH + "}$");
+
+    private static final String PASSWORD_SPECIALS = "!@#$%^&*";
+    private static final String EMAIL_LOCAL_SPECIALS = "._%+-";
+
+    private MemberValidator() {
+    }
+
+    //5~20자의 영문 대소문자, 숫자로 이루어져 있고 영문과 숫자를 각각 하나 이상 포함
+    public static boolean isValidId(String id) {
+        if (id == null || id.length() < ID_MIN_LENGTH || id.length() > MEMBER_MAX_LENGTH.ID.getValue()) {
+            return false;
+        }
+        boolean hasLetter = false;
+        boolean hasDigit = false;
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (isLetter(c)) {
+                hasLetter = true;
+            } else if (isDigit(c)) {
+                hasDigit = true;
+            } else {
+                return false;
+            }
+        }
+        return hasLetter && hasDigit;
+    }
+
+    //local@domain.tld 형식. tld는 2자 이상의 영문
+    public static boolean isValidEmail(String email) {
+        if (email == null) {
+            return false;
+        }
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0; i < email.length(); i++) {
+            char c = email.charAt(i);
+            if (c == '@') {
+                //@는 한번만 나와야 하고 local 부분이 비어있으면 안됨
+                if (at >= 0 || i == 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (!isLetter(c) && !isDigit(c) && EMAIL_LOCAL_SPECIALS.indexOf(c) < 0) {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isLetter(c) && !isDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        //domain은 마지막 . 앞에 한글자 이상 있어야 함
+        if (at < 0 || lastDot <= at + 1 || email.length() - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < email.length(); i++) {
+            if (!isLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //8~16자의 영문 소문자, 대문자, 숫자, 특수문자(!@#$%^&*)를 각각 하나 이상 포함
+    public static boolean isValidPassword(String password) {
+        if (password == null || password.length() < PASSWORD_MIN_LENGTH || password.length() > PASSWORD_MAX_LENGTH) {
+            return false;
+        }
+        boolean hasLower = false;
+        boolean hasUpper = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                hasLower = true;
+            } else if (c >= 'A' && c <= 'Z') {
+                hasUpper = true;
+            } else if (isDigit(c)) {
+                hasDigit = true;
+            } else if (PASSWORD_SPECIALS.indexOf(c) >= 0) {
+                hasSpecial = true;
+            } else {
+                return false;
+            }
+        }
+        return hasLower && hasUpper && hasDigit && hasSpecial;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
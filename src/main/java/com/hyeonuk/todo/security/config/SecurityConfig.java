@@ -2,12 +2,14 @@ package com.hyeonuk.todo.security.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hyeonuk.todo.integ.dto.ErrorMessageDTO;
+import com.hyeonuk.todo.security.service.AdaptiveBCryptPasswordEncoder;
 import com.hyeonuk.todo.security.service.JwtProvider;
 import com.hyeonuk.todo.security.filter.JwtAuthenticationFilter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.access.AccessDeniedException;
@@ -16,7 +18,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
@@ -32,7 +33,7 @@ import java.util.List;
 @EnableMethodSecurity(prePostEnabled = true, securedEnabled = true)
 @RequiredArgsConstructor
 public class SecurityConfig {
-    private final String[] whiteList = {"/auth/login", "/auth/regist","/api/email/auth/**"};
+    private final String[] whiteList = {"/auth/login", "/auth/regist", "/auth/refresh","/auth/available/**","/api/email/auth/**"};
     private final JwtProvider jwtProvider;
     private final ObjectMapper objectMapper;
     private final UserDetailsService userDetailsService;
@@ -101,8 +102,11 @@ public class SecurityConfig {
         return http.build();
     }
 
+    //모든 서버가 같은 cost를 사용해야 서버를 오갈 때마다 재암호화되지 않으므로 서버에서 측정하지 않고 설정값만 사용
+    //security.bcrypt.min-strength보다 낮게 설정하면 시작하지 않음
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength,
+                                           @Value("${security.bcrypt.min-strength:10}") int minStrength) {
+        return new AdaptiveBCryptPasswordEncoder(strength, minStrength);
     }
 }
@@ -0,0 +1,7 @@
+package com.hyeonuk.todo.security.exception;
+
+public class PasswordHashException extends Exception{
+    public PasswordHashException(String message) {
+        super(message);
+    }
+}
@@ -32,13 +32,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String accessToken = resolveToken(request);
-        if (accessToken != null && jwtProvider.isValidToken(accessToken)) {
-
-            Authentication auth = jwtProvider.getAuthentication(accessToken);
-            SecurityContextHolder.getContext().setAuthentication(auth);
-
-            filterChain.doFilter(request, response);
-            return;
+        if (accessToken != null) {
+            //토큰을 한번만 파싱/검증한 뒤 그 결과로 인증정보를 만듦 (검증된 토큰은 cache에서 재사용)
+            Authentication auth = jwtProvider.authenticate(accessToken);
+            if (auth != null) {//유효하지 않거나 무효화된 토큰이면 인증정보를 저장하지 않음
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            }
         }
         filterChain.doFilter(request,response);
     }
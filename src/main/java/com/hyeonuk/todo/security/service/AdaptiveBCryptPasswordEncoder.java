@@ -0,0 +1,62 @@
+package com.hyeonuk.todo.security.service;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+//설정된 cost로 암호화하고, 저장된 hash의 cost가 설정보다 낮을 때만 재암호화 대상으로 판단
+//cost는 cluster 전체가 같은 값을 쓰도록 설정으로만 정하며, 서버마다 측정하지 않음
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+    public static final int MIN_STRENGTH = 4;
+    public static final int MAX_STRENGTH = 16;
+
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    //minStrength보다 낮은 cost로는 만들 수 없음
+    public AdaptiveBCryptPasswordEncoder(int strength, int minStrength) {
+        if (minStrength < MIN_STRENGTH || strength < minStrength || strength > MAX_STRENGTH) {
+            throw new IllegalArgumentException("BCrypt strength는 " + Math.max(MIN_STRENGTH, minStrength)
+                    + " 이상 " + MAX_STRENGTH + " 이하여야 합니다. : " + strength);
+        }
+        this.strength = strength;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    public int getStrength() {
+        return this.strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    //BCrypt hash에는 cost가 포함되어 있으므로 어떤 cost로 저장된 hash든 검증 가능
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    //설정보다 높은 cost로 저장된 hash는 낮추지 않음
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost != -1 && cost < strength;
+    }
+
+    //$2a$10$... 형식에서 cost를 꺼냄. 형식이 다르면 -1
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        int end = encodedPassword.indexOf('$', 1);
+        if (end == -1 || encodedPassword.length() < end + 3) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(end + 1, end + 3));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.hyeonuk.todo.security.service;
 
-import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,27 +9,28 @@ import java.util.Collection;
 import java.util.stream.Collectors;
 
 public class CustomUserDetail implements UserDetails {
-    private final Member member;
+    private final MemberSnapshotCache.MemberSnapshot member;
 
-    public CustomUserDetail(Member member) {
+    public CustomUserDetail(MemberSnapshotCache.MemberSnapshot member) {
         this.member = member;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return this.member.getRoles().stream()
-                .map(role->new SimpleGrantedAuthority(role.getName()))
+        return this.member.roles().stream()
+                .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toList());
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        //토큰 인증에만 사용하므로 비밀번호는 보관하지 않음
+        return "";
     }
 
     @Override
     public String getUsername() {
-        return member.getId();
+        return member.id();
     }
 
     @Override
@@ -37,6 +38,7 @@ public class CustomUserDetail implements UserDetails {
         return true;
     }
 
+    //잠금은 LoginAttemptService가 관리하며 비밀번호 로그인만 막으므로 토큰 인증에서는 확인하지 않음
     @Override
     public boolean isAccountNonLocked() {
         return true;
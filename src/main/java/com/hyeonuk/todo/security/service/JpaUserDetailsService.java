@@ -1,21 +1,21 @@
 package com.hyeonuk.todo.security.service;
 
-import com.hyeonuk.todo.member.entity.Member;
-import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+//토큰 인증마다 호출되므로 Member 엔티티 대신 cache된 snapshot을 사용
 @Service
 @RequiredArgsConstructor
 public class JpaUserDetailsService implements UserDetailsService {
-    private final MemberRepository memberRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findById(username)
+        MemberSnapshotCache.MemberSnapshot member = memberSnapshotCache.get(username)
                 .orElseThrow(() -> new UsernameNotFoundException("해당 유저가 존재하지 않습니다."));
 
         return new CustomUserDetail(member);
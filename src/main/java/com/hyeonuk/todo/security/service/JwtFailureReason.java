@@ -0,0 +1,18 @@
+package com.hyeonuk.todo.security.service;
+
+public enum JwtFailureReason {
+    SIGNATURE("Invalid JWT Signature"),
+    EXPIRED("Expired JWT token"),
+    MALFORMED("Invalid JWT Token"),
+    UNSUPPORTED("Unsupported JWT token");
+
+    private final String message;
+
+    JwtFailureReason(final String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return this.message;
+    }
+}
@@ -0,0 +1,51 @@
+package com.hyeonuk.todo.security.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+//토큰 검증 실패를 사유별로 집계. 잘못된 토큰이 몰려도 로그는 사유별로 일정 간격마다 한줄만 남김 (stack trace 없음)
+@Component
+@Slf4j
+public class JwtFailureRecorder {
+    private final Map<JwtFailureReason, Counter> counters = new EnumMap<>(JwtFailureReason.class);
+    private final Map<JwtFailureReason, AtomicLong> lastLoggedAt = new EnumMap<>(JwtFailureReason.class);
+    private final Map<JwtFailureReason, AtomicLong> suppressed = new EnumMap<>(JwtFailureReason.class);
+    private final long logInterval;
+
+    public JwtFailureRecorder(MeterRegistry meterRegistry,
+                              @Value("${jwt.failure-log-interval:10000}") long logInterval) {
+        this.logInterval = logInterval;
+        for (JwtFailureReason reason : JwtFailureReason.values()) {
+            counters.put(reason, Counter.builder("jwt.validation.failures")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+            lastLoggedAt.put(reason, new AtomicLong(Long.MIN_VALUE / 2));
+            suppressed.put(reason, new AtomicLong());
+        }
+    }
+
+    public void record(JwtFailureReason reason) {
+        counters.get(reason).increment();
+
+        long now = System.currentTimeMillis();
+        AtomicLong last = lastLoggedAt.get(reason);
+        long before = last.get();
+        //간격이 지났고 다른 thread가 먼저 기록하지 않은 경우에만 로그를 남김
+        if (now - before >= logInterval && last.compareAndSet(before, now)) {
+            log.warn("{} (reason={}, suppressed={})", reason.getMessage(), reason, suppressed.get(reason).getAndSet(0));
+        } else {
+            suppressed.get(reason).incrementAndGet();
+        }
+    }
+
+    public double count(JwtFailureReason reason) {
+        return counters.get(reason).count();
+    }
+}
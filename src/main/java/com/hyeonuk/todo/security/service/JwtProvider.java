@@ -3,72 +3,222 @@ package com.hyeonuk.todo.security.service;
 import com.hyeonuk.todo.member.entity.Authority;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class JwtProvider {
-    @Value("${jwt.secret_key}")
-    private String SECRET_KEY;
+    private static final String ROLES_CLAIM = "roles";
 
-    @Value("${jwt.exp}")
-    private long exp;
+    //iat는 초 단위로 잘리므로 무효화 시각과 비교할 발급시각을 ms 단위로 따로 담음
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
+
+    //이보다 긴 문자열은 파싱하지 않고 바로 거절
+    private static final int MAX_TOKEN_LENGTH = 4096;
+
+    //서명키와 parser는 thread-safe하므로 한번만 만들어서 재사용
+    private final SecretKey secretKey;
+
+    private final JwtParser parser;
+
+    private final long exp;
+
+    //true면 Member를 조회하지 않고 토큰의 subject와 roles claim만으로 Authentication을 생성
+    private final boolean stateless;
 
     private final UserDetailsService userDetailsService;
 
+    private final JwtRevocationService jwtRevocationService;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final JwtFailureRecorder jwtFailureRecorder;
+
+    public JwtProvider(@Value("${jwt.secret_key}") String secretKey,
+                       @Value("${jwt.exp}") long exp,
+                       @Value("${jwt.stateless:false}") boolean stateless,
+                       UserDetailsService userDetailsService,
+                       JwtRevocationService jwtRevocationService,
+                       VerifiedTokenCache verifiedTokenCache,
+                       JwtFailureRecorder jwtFailureRecorder) {
+        this.secretKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.exp = exp;
+        this.stateless = stateless;
+        this.userDetailsService = userDetailsService;
+        this.jwtRevocationService = jwtRevocationService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.jwtFailureRecorder = jwtFailureRecorder;
+    }
+
     public String createToken(String id, List<Authority> roles){
+        return createAccessToken(id, roles.stream().map(Authority::getName).collect(Collectors.toList()));
+    }
+
+    //refresh token으로 재발급할 때는 Member를 조회하지 않으므로 권한 이름만으로 토큰을 생성
+    public String createAccessToken(String id, Collection<String> roles){
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .setHeaderParam("typ","JWT")
                 .setSubject(id)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis()+exp))
-                .claim("roles",roles)
-                .signWith(SignatureAlgorithm.HS256,SECRET_KEY.getBytes(StandardCharsets.UTF_8))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now+exp))
+                .claim(ISSUED_AT_MILLIS_CLAIM,now)
+                .claim(ROLES_CLAIM,roles)
+                .signWith(secretKey,SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    //이미 검증된 토큰이면 서명 검증과 무효화 조회 없이 cache된 인증정보를 사용. 유효하지 않거나 무효화된 토큰이면 null을 리턴
+    //무효화 여부는 cache에 넣기 전에 확인하므로 로그아웃한 토큰은 cache의 ttl(jwt.cache.ttl)이 지나야 거절됨
+    public Authentication authenticate(String token){
+        VerifiedTokenCache.VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached.authentication();
+        }
+
+        Claims claims = parseClaims(token).orElse(null);
+        if (claims == null) {
+            return null;
+        }
+
+        Authentication authentication = getAuthentication(claims);
+        if (authentication != null) {
+            verifiedTokenCache.put(token, new VerifiedTokenCache.VerifiedToken(
+                    claims.getSubject(), issuedAt(claims), claims.getExpiration(), authentication));
+        }
+        return authentication;
+    }
+
+    //무효화된 토큰이면 null을 리턴
     public Authentication getAuthentication(String token){
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getId(token));
+        return parseClaims(token)
+                .map(this::getAuthentication)
+                .orElse(null);
+    }
+
+    //parseClaims로 검증이 끝난 claim을 그대로 사용하므로 서명을 다시 검증하지 않음
+    //stateless 모드는 회원을 조회하지 않으므로 로그아웃으로 무효화된 토큰인지 cache서버에서 확인
+    public Authentication getAuthentication(Claims claims){
+        if (stateless) {
+            if (jwtRevocationService.isRevoked(claims.getSubject(), issuedAt(claims))) {
+                return null;
+            }
+            return getStatelessAuthentication(claims);
+        }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
         return new UsernamePasswordAuthenticationToken(userDetails,"",userDetails.getAuthorities());
     }
 
+    //서명이 검증된 claim만을 이용하므로 DB 왕복이 발생하지 않음
+    private Authentication getStatelessAuthentication(Claims claims){
+        String id = claims.getSubject();
+        List<GrantedAuthority> authorities = getAuthorities(claims);
+        UserDetails userDetails = new User(id, "", authorities);
+        return new UsernamePasswordAuthenticationToken(userDetails,"",authorities);
+    }
+
+    private List<GrantedAuthority> getAuthorities(Claims claims){
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                //이전 형식({"name":"ROLE_USER"})으로 발급된 토큰도 처리
+                .map(role -> role instanceof Map ? ((Map<?, ?>) role).get("name") : role)
+                .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .collect(Collectors.toList());
+    }
+
+    //ms 단위 발급시각이 없는 이전 토큰은 초 단위 iat를 사용. 같은 초에 무효화되면 무효화된 것으로 간주됨
+    private Date issuedAt(Claims claims){
+        Object issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM);
+        if (issuedAtMillis instanceof Number) {
+            return new Date(((Number) issuedAtMillis).longValue());
+        }
+        return claims.getIssuedAt();
+    }
+
     public String getId(String token){
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY.getBytes(StandardCharsets.UTF_8))
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody().getSubject();
     }
 
     public boolean isValidToken(String accessToken) {
+        return parseClaims(accessToken).isPresent();
+    }
+
+    //서명 검증과 만료 검사를 한번에 수행하고 검증된 claim을 리턴. 유효하지 않으면 empty
+    public Optional<Claims> parseClaims(String accessToken) {
+        //형식이 잘못된 토큰은 base64 디코딩과 서명 검증 전에 거절
+        if (!isWellFormed(accessToken)) {
+            jwtFailureRecorder.record(JwtFailureReason.MALFORMED);
+            return Optional.empty();
+        }
         try{
-            return !Jwts.parserBuilder().setSigningKey(SECRET_KEY.getBytes()).build().parseClaimsJws(accessToken)
-                    .getBody().getExpiration().before(new Date());
+            Claims claims = parser.parseClaimsJws(accessToken).getBody();
+            //exp가 없는 토큰은 허용하지 않음
+            if (claims.getExpiration() == null) {
+                jwtFailureRecorder.record(JwtFailureReason.UNSUPPORTED);
+                return Optional.empty();
+            }
+            return Optional.of(claims);
         }catch(SignatureException e){
-            log.error("Invalid JWT Signature",e);
-        }catch(MalformedJwtException e){
-            log.error("Invalid JWT Token",e);
+            jwtFailureRecorder.record(JwtFailureReason.SIGNATURE);
         }catch(ExpiredJwtException e){
-            log.error("Expired JWT token",e);
+            jwtFailureRecorder.record(JwtFailureReason.EXPIRED);
         }catch(UnsupportedJwtException e){
-            log.error("Unsupported JWT token",e);
-        }catch(IllegalArgumentException e){
-            log.error("JWT claims string is empty",e);
+            jwtFailureRecorder.record(JwtFailureReason.UNSUPPORTED);
+        }catch(MalformedJwtException | IllegalArgumentException e){
+            jwtFailureRecorder.record(JwtFailureReason.MALFORMED);
         } catch (Exception e) {
             log.error("Something Exception");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    //header.payload.signature 형태이고 각 부분이 base64url 문자로만 이루어졌는지 한번의 순회로 검사
+    private boolean isWellFormed(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
+            return false;
+        }
+        int dots = 0;
+        int segmentLength = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++dots > 2) {
+                    return false;
+                }
+                segmentLength = 0;
+            } else if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_') {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+        //서명된 토큰만 허용하므로 signature 부분도 비어있으면 안됨
+        return dots == 2 && segmentLength > 0;
     }
 }
@@ -0,0 +1,55 @@
+package com.hyeonuk.todo.security.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JwtRevocationService {
+    private static final String KEY_PREFIX = "jwt:revoked:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${jwt.exp}")
+    private long exp;
+
+    @Value("${jwt.refresh_exp:1209600000}")
+    private long refreshExp;
+
+    //cache서버 장애로 무효화 여부를 알 수 없을 때의 정책
+    //true면 인증을 허용(장애 동안 로그아웃한 토큰도 만료 전까지 사용 가능), false면 인증을 거절(장애 동안 모든 stateless 인증 실패)
+    @Value("${jwt.revocation.fail-open:true}")
+    private boolean failOpen;
+
+    //해당 시각 이전에 발급된 회원의 모든 토큰을 무효화. 로그아웃 시 호출
+    //refresh token도 같은 시각으로 거절하므로 access token과 refresh token 중 긴 수명이 지나면 key를 만료시킴
+    public void revokeAll(String memberId) {
+        redisTemplate.opsForValue()
+                .set(KEY_PREFIX.concat(memberId), Long.toString(System.currentTimeMillis()),
+                        Duration.ofMillis(Math.max(exp, refreshExp)));
+    }
+
+    //DB 조회 없이 cache서버에 저장된 무효화 시각과 토큰의 발급시각만 비교
+    public boolean isRevoked(String memberId, Date issuedAt) {
+        String revokedAt;
+        try {
+            revokedAt = redisTemplate.opsForValue().get(KEY_PREFIX.concat(memberId));
+        } catch (DataAccessException e) {
+            log.warn("revocation lookup failed. member : {}, fail-open : {}", memberId, failOpen, e);
+            return !failOpen;
+        }
+        if (revokedAt == null) {
+            return false;
+        }
+        //무효화와 같은 ms에 발급된 토큰도 무효화된 것으로 간주
+        return issuedAt == null || issuedAt.getTime() <= Long.parseLong(revokedAt);
+    }
+}
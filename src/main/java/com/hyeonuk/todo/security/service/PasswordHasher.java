@@ -0,0 +1,80 @@
+package com.hyeonuk.todo.security.service;
+
+import com.hyeonuk.todo.security.exception.PasswordHashException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//BCrypt 연산을 servlet thread와 트랜잭션 밖의 크기가 정해진 CPU pool에서 수행
+//pool과 대기열이 모두 차면 바로 거절해서 요청이 쌓이지 않도록 함 (backpressure)
+@Component
+@Slf4j
+public class PasswordHasher {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${security.password-hash.threads:0}") int threads,
+                          @Value("${security.password-hash.queue-size:64}") int queueSize,
+                          @Value("${security.password-hash.timeout:5000}") long timeout) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) throws PasswordHashException {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) throws PasswordHashException {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    //hash 문자열만 확인하므로 pool을 사용하지 않음
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) throws PasswordHashException {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashException("비밀번호 처리 중 오류가 발생했습니다.");
+        } catch (ExecutionException e) {
+            log.error("password hash error", e.getCause());
+            throw new PasswordHashException("비밀번호 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
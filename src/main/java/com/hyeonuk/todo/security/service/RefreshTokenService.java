@@ -0,0 +1,140 @@
+package com.hyeonuk.todo.security.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+//refresh token은 cache서버에만 저장되며 한번 사용하면 폐기하고 새로 발급함 (rotation)
+//로그인 한번으로 시작된 토큰들을 family로 묶고, 로그인 시각부터 refreshExp가 지나면 rotation과 상관없이 만료됨
+//이미 사용한 토큰이 다시 들어오면 탈취된 것으로 보고 family 전체를 폐기
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+    private static final String KEY_PREFIX = "jwt:refresh:";
+    private static final String USED_KEY_PREFIX = "jwt:refresh:used:";
+    private static final String FAMILY_KEY_PREFIX = "jwt:refresh:family:";
+    private static final String SEPARATOR = "|";
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final StringRedisTemplate redisTemplate;
+
+    private final JwtRevocationService jwtRevocationService;
+
+    @Value("${jwt.refresh_exp:1209600000}")//기본 14일
+    private long refreshExp;
+
+    //로그인 시 새로운 family를 시작
+    //토큰 재발급 시 DB를 조회하지 않도록 id와 권한 이름을 함께 저장
+    public String issue(String memberId, Collection<String> roles) {
+        return issue(new Session(memberId, newToken(), System.currentTimeMillis() + refreshExp, List.copyOf(roles)));
+    }
+
+    //기존 토큰을 원자적으로 꺼내면서 삭제하므로 같은 토큰으로 두번 재발급 받을 수 없음
+    //새 토큰은 같은 family로 묶이고 처음 로그인한 시각 기준의 만료시각을 그대로 물려받음
+    public Optional<Rotation> rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return Optional.empty();
+        }
+
+        String value = redisTemplate.opsForValue().getAndDelete(KEY_PREFIX.concat(refreshToken));
+        if (value == null) {
+            revokeIfReused(refreshToken);
+            return Optional.empty();
+        }
+
+        Session session = Session.parse(value);
+        long remain = session.expiresAt() - System.currentTimeMillis();
+        //로그아웃으로 무효화되었으면 재발급하지 않음
+        //로그인 잠금은 비밀번호 로그인만 막으므로 이미 로그인한 세션의 재발급은 막지 않음
+        if (remain <= 0 || jwtRevocationService.isRevoked(session.memberId(), new Date(session.issuedAt()))) {
+            redisTemplate.delete(FAMILY_KEY_PREFIX.concat(session.familyId()));
+            return Optional.empty();
+        }
+
+        //재사용을 감지하기 위해 사용한 토큰은 family가 만료될 때까지 기록
+        redisTemplate.opsForValue().set(USED_KEY_PREFIX.concat(refreshToken),
+                session.memberId().concat(SEPARATOR).concat(session.familyId()),
+                Duration.ofMillis(remain));
+
+        return Optional.of(new Rotation(session.memberId(), session.roles(), issue(session)));
+    }
+
+    //로그아웃. 전달받은 토큰과 같은 family의 토큰을 모두 폐기
+    public void remove(String refreshToken) {
+        String value = redisTemplate.opsForValue().getAndDelete(KEY_PREFIX.concat(refreshToken));
+        if (value != null) {
+            revokeFamily(Session.parse(value).familyId());
+        }
+    }
+
+    private String issue(Session session) {
+        String refreshToken = newToken();
+        long now = System.currentTimeMillis();
+        //만료 직전에 재발급된 경우에도 TTL이 0 이하가 되지 않도록 함
+        Duration ttl = Duration.ofMillis(Math.max(1, session.expiresAt() - now));
+
+        redisTemplate.opsForValue().set(KEY_PREFIX.concat(refreshToken), session.format(now), ttl);
+        //family마다 현재 사용 가능한 토큰 하나만 기록
+        redisTemplate.opsForValue().set(FAMILY_KEY_PREFIX.concat(session.familyId()), refreshToken, ttl);
+        return refreshToken;
+    }
+
+    //이미 사용한 토큰이면 family의 현재 토큰을 폐기해서 탈취한 쪽과 원래 사용자 모두 다시 로그인하게 함
+    private void revokeIfReused(String refreshToken) {
+        String used = redisTemplate.opsForValue().get(USED_KEY_PREFIX.concat(refreshToken));
+        if (used == null) {
+            return;
+        }
+        int index = used.indexOf(SEPARATOR);
+        log.warn("refresh token reused. member : {}", used.substring(0, index));
+        revokeFamily(used.substring(index + 1));
+    }
+
+    private void revokeFamily(String familyId) {
+        String current = redisTemplate.opsForValue().getAndDelete(FAMILY_KEY_PREFIX.concat(familyId));
+        if (current != null) {
+            redisTemplate.delete(KEY_PREFIX.concat(current));
+        }
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record Rotation(String memberId, List<String> roles, String refreshToken) {
+    }
+
+    //cache서버에는 memberId|familyId|만료시각|발급시각|권한 형태로 저장
+    private record Session(String memberId, String familyId, long expiresAt, long issuedAt, List<String> roles) {
+        private Session(String memberId, String familyId, long expiresAt, List<String> roles) {
+            this(memberId, familyId, expiresAt, 0, roles);
+        }
+
+        private String format(long issuedAt) {
+            return String.join(SEPARATOR, memberId, familyId, Long.toString(expiresAt), Long.toString(issuedAt),
+                    String.join(",", roles));
+        }
+
+        private static Session parse(String value) {
+            String[] parts = value.split("\\|", 5);
+            List<String> roles = parts[4].isEmpty() ? List.of() : Arrays.asList(parts[4].split(","));
+            return new Session(parts[0], parts[1], Long.parseLong(parts[2]), Long.parseLong(parts[3]), roles);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.hyeonuk.todo.todo.controller;
+
+import com.hyeonuk.todo.integ.dto.ErrorMessageDTO;
+import com.hyeonuk.todo.integ.exception.NotFoundException;
+import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
+import com.hyeonuk.todo.todo.data.TransferFormat;
+import com.hyeonuk.todo.todo.dto.TodoBatchCompleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoBatchDeleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoBatchUpdateDTO;
+import com.hyeonuk.todo.todo.dto.TodoCalendarDTO;
+import com.hyeonuk.todo.todo.dto.TodoListDTO;
+import com.hyeonuk.todo.todo.dto.TodoTransferDTO;
+import com.hyeonuk.todo.todo.exception.TodoException;
+import com.hyeonuk.todo.todo.service.TodoService;
+import com.hyeonuk.todo.todo.service.TodoTransferService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/todo")
+@RequiredArgsConstructor
+@Slf4j
+public class TodoController {
+    private final TodoService todoService;
+    private final TodoTransferService todoTransferService;
+
+    //로그인한 사용자의 todo 목록. 다음 페이지는 응답의 next 값을 cursor로 전달
+    @GetMapping(produces = "application/json;charset=utf-8")
+    public ResponseEntity<TodoListDTO.Response> findTodos(@AuthenticationPrincipal UserDetails userDetails,
+                                                          @ModelAttribute TodoListDTO.Request dto) throws ValidationException, TodoException {
+        dto.setUserId(userDetails.getUsername());
+        return new ResponseEntity<>(todoService.findTodos(dto), HttpStatus.OK);
+    }
+
+    //해당 월의 일별 todo 개수와 완료 개수
+    @GetMapping(value = "/calendar", produces = "application/json;charset=utf-8")
+    public ResponseEntity<TodoCalendarDTO.Response> calendar(@AuthenticationPrincipal UserDetails userDetails,
+                                                             @ModelAttribute TodoCalendarDTO.Request dto) throws ValidationException, TodoException {
+        dto.setUserId(userDetails.getUsername());
+        return new ResponseEntity<>(todoService.calendar(dto), HttpStatus.OK);
+    }
+
+    //여러 todo를 한 요청, 한 트랜잭션으로 처리
+    @PatchMapping(value = "/batch/content", produces = "application/json;charset=utf-8", consumes = "application/json;charset=utf-8")
+    public ResponseEntity<TodoBatchUpdateDTO.Response> updateAll(@AuthenticationPrincipal UserDetails userDetails,
+                                                                 @RequestBody TodoBatchUpdateDTO.Request dto) throws ValidationException, NotFoundException, TodoException {
+        dto.setUserId(userDetails.getUsername());
+        return new ResponseEntity<>(todoService.updateAll(dto), HttpStatus.OK);
+    }
+
+    @PatchMapping(value = "/batch/complete", produces = "application/json;charset=utf-8", consumes = "application/json;charset=utf-8")
+    public ResponseEntity<TodoBatchCompleteDTO.Response> completeAll(@AuthenticationPrincipal UserDetails userDetails,
+                                                                     @RequestBody TodoBatchCompleteDTO.Request dto) throws ValidationException, NotFoundException, TodoException {
+        dto.setUserId(userDetails.getUsername());
+        return new ResponseEntity<>(todoService.completeAll(dto), HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/batch/delete", produces = "application/json;charset=utf-8", consumes = "application/json;charset=utf-8")
+    public ResponseEntity<TodoBatchDeleteDTO.Response> deleteAll(@AuthenticationPrincipal UserDetails userDetails,
+                                                                 @RequestBody TodoBatchDeleteDTO.Request dto) throws ValidationException, NotFoundException, TodoException {
+        dto.setUserId(userDetails.getUsername());
+        return new ResponseEntity<>(todoService.deleteAll(dto), HttpStatus.OK);
+    }
+
+    //ndjson 혹은 csv 파일을 body로 받아서 한 줄씩 저장
+    @PostMapping(value = "/import", produces = "application/json;charset=utf-8", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<TodoTransferDTO.ImportResponse> importTodos(@AuthenticationPrincipal UserDetails userDetails,
+                                                                      HttpServletRequest request) throws ValidationException, UserInfoNotFoundException, TodoException, IOException {
+        TransferFormat format = TransferFormat.of(request.getContentType())
+                .orElseThrow(() -> new ValidationException("지원하지 않는 형식입니다."));
+        return new ResponseEntity<>(todoTransferService.importTodos(userDetails.getUsername(), request.getInputStream(), format), HttpStatus.CREATED);
+    }
+
+    //조회하는 대로 응답에 써서 todo 수와 상관없이 메모리를 일정하게 사용
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@AuthenticationPrincipal UserDetails userDetails,
+                                                             @RequestParam(defaultValue = "ndjson") String format) throws ValidationException {
+        TransferFormat transferFormat = TransferFormat.of(format)
+                .orElseThrow(() -> new ValidationException("지원하지 않는 형식입니다."));
+        String userId = userDetails.getUsername();
+
+        StreamingResponseBody body = out -> {
+            try {
+                todoTransferService.exportTodos(userId, out, transferFormat);
+            } catch (ValidationException | TodoException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(transferFormat.getContentType() + ";charset=utf-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + transferFormat.name().toLowerCase() + "\"")
+                .body(body);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorMessageDTO> badRequestErrorHandler(Exception e){
+        return new ResponseEntity<>(ErrorMessageDTO.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .build(),HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(UserInfoNotFoundException.class)
+    public ResponseEntity<ErrorMessageDTO> unauthorizedErrorHandler(Exception e){
+        return new ResponseEntity<>(ErrorMessageDTO.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.UNAUTHORIZED.value())
+                .build(),HttpStatus.UNAUTHORIZED);
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorMessageDTO> notFoundErrorHandler(Exception e){
+        return new ResponseEntity<>(ErrorMessageDTO.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.NOT_FOUND.value())
+                .build(),HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(TodoException.class)
+    public ResponseEntity<ErrorMessageDTO> internalServerErrorHandler(Exception e){
+        return new ResponseEntity<>(ErrorMessageDTO.builder()
+                .message(e.getMessage())
+                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .build(),HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,29 @@
+package com.hyeonuk.todo.todo.data;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+//todo import/export 파일 형식
+public enum TransferFormat {
+    NDJSON("application/x-ndjson"), CSV("text/csv");
+
+    public final String contentType;
+
+    TransferFormat(final String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return this.contentType;
+    }
+
+    //"ndjson", "csv" 혹은 content type으로 찾음
+    public static Optional<TransferFormat> of(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value) || value.toLowerCase().startsWith(format.contentType))
+                .findFirst();
+    }
+}
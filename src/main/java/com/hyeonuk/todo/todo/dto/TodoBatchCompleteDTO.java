@@ -0,0 +1,27 @@
+package com.hyeonuk.todo.todo.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+public class TodoBatchCompleteDTO {
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Request{
+        private String userId;
+        private List<Long> todoIds;
+        private Boolean complete;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Response{
+        private List<Long> todoIds;
+        private boolean complete;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hyeonuk.todo.todo.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+public class TodoBatchDeleteDTO {
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Request{
+        private String userId;
+        private List<Long> todoIds;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Response{
+        private List<Long> todoIds;
+    }
+}
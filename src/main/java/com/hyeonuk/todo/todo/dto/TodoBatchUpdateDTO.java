@@ -0,0 +1,34 @@
+package com.hyeonuk.todo.todo.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+public class TodoBatchUpdateDTO {
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Request{
+        private String userId;
+        private List<Change> changes;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Change{
+        private Long todoId;
+        private String content;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Response{
+        private List<Long> todoIds;
+    }
+}
@@ -0,0 +1,39 @@
+package com.hyeonuk.todo.todo.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+public class TodoCalendarDTO {
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Request{
+        private String userId;
+        private Integer year;
+        private Integer month;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Response{
+        private int year;
+        private int month;
+        //1일부터 말일까지 순서대로. todo가 없는 날도 0으로 포함
+        private List<Day> days;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Day{
+        private int day;
+        private long total;
+        private long completed;
+    }
+}
@@ -0,0 +1,58 @@
+package com.hyeonuk.todo.todo.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TodoListDTO {
+    //cursor(complete, createdAt, todoId)는 이전 페이지의 next 값을 그대로 전달. 첫 페이지는 모두 null
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Request{
+        private String userId;
+        private Boolean complete;
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        private LocalDateTime createdAt;
+        private Long todoId;
+        private Integer size;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Response{
+        private List<Item> todos;
+        private boolean hasNext;
+        //다음 페이지 cursor. hasNext가 false면 null
+        private Cursor next;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Item{
+        private Long todoId;
+        private Long categoryId;
+        private String categoryTitle;
+        private String content;
+        private boolean complete;
+        private LocalDateTime createdAt;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class Cursor{
+        private boolean complete;
+        private LocalDateTime createdAt;
+        private Long todoId;
+    }
+}
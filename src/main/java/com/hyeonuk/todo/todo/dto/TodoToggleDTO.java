@@ -18,6 +18,6 @@ public class TodoToggleDTO {
     @Getter
     @Setter
     public static class Response{
-        private boolean result;
+        private Long todoId;
     }
 }
@@ -0,0 +1,28 @@
+package com.hyeonuk.todo.todo.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+public class TodoTransferDTO {
+    //import/export 파일의 한 줄. content가 없으면 카테고리만 있는 줄
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Row{
+        private String category;
+        private String content;
+        private Boolean complete;
+    }
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class ImportResponse{
+        private int categories;
+        private int todos;
+    }
+}
@@ -1,6 +1,7 @@
 package com.hyeonuk.todo.todo.entity;
 
 import com.hyeonuk.todo.integ.entity.BaseEntity;
+import com.hyeonuk.todo.integ.validation.ColumnLength;
 import com.hyeonuk.todo.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.*;
@@ -14,13 +15,20 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString
+//회원의 카테고리 목록을 id 순서대로 index에서 바로 읽음
+@Table(indexes = @Index(name = "idx_category_member", columnList = "member_id, category_id"))
 public class Category extends BaseEntity {
+    public static final int TITLE_MAX_LENGTH = 100;
+
+    //IDENTITY는 insert를 batch로 묶을 수 없으므로 pooled sequence 사용. MySQL에서는 category_seq 테이블로 대체됨
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_seq", allocationSize = 50)
     @Column(name="category_id")
     private Long id;
 
-    @Column(name="title",length = 100)
+    @Column(name="title",length = TITLE_MAX_LENGTH)
+    @ColumnLength(TITLE_MAX_LENGTH)
     private String title;
 
     @ManyToOne(fetch = FetchType.LAZY)
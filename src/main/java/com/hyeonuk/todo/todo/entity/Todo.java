@@ -1,6 +1,7 @@
 package com.hyeonuk.todo.todo.entity;
 
 import com.hyeonuk.todo.integ.entity.BaseEntity;
+import com.hyeonuk.todo.integ.validation.ColumnLength;
 import com.hyeonuk.todo.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.*;
@@ -20,9 +21,19 @@ import java.util.List;
 @AllArgsConstructor
 @DynamicUpdate
 @ToString
+//목록/keyset 페이지 조회, 달력 기간 집계, 카테고리 단위 삭제가 각각 index range scan만 하도록 함
+@Table(indexes = {
+        @Index(name = "idx_todo_member_keyset", columnList = "member_id, complete, created_at desc, todo_id desc"),
+        @Index(name = "idx_todo_member_created", columnList = "member_id, created_at"),
+        @Index(name = "idx_todo_category_member", columnList = "category_id, member_id")
+})
 public class Todo extends BaseEntity {
+    public static final int CONTENT_MAX_LENGTH = 200;
+
+    //IDENTITY는 insert를 batch로 묶을 수 없으므로 pooled sequence 사용. MySQL에서는 todo_seq 테이블로 대체됨
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = 50)
     @Column(name="todo_id")
     private Long id;
 
@@ -34,7 +45,8 @@ public class Todo extends BaseEntity {
     @JoinColumn(name="category_id")
     private Category category;
 
-    @Column(name="content",length = 200,nullable = false)
+    @Column(name="content",length = CONTENT_MAX_LENGTH,nullable = false)
+    @ColumnLength(CONTENT_MAX_LENGTH)
     private String content;
 
     @Column(name="complete")
@@ -3,9 +3,32 @@ package com.hyeonuk.todo.todo.repository;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.todo.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category,Long> {
     List<Category> findByMember(Member member);
+
+    //엔티티 없이 id, title만 조회. [id, title]
+    @Query("select c.id, c.title from Category c where c.member.id = :memberId order by c.id")
+    List<Object[]> findIdAndTitleByMemberId(@Param("memberId") String memberId);
+
+    //소유자 조건을 포함한 update. bulk 연산은 엔티티 listener를 거치지 않으므로 updatedAt을 직접 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("update Category c set c.title = :title, c.updatedAt = :now " +
+            "where c.id = :categoryId and c.member.id = :memberId")
+    int updateTitle(@Param("categoryId") Long categoryId,
+                    @Param("memberId") String memberId,
+                    @Param("title") String title,
+                    @Param("now") LocalDateTime now);
+
+    //소유자 확인과 삭제를 한번에 처리. 삭제된 행 수를 리턴
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Category c where c.id = :categoryId and c.member.id = :memberId")
+    int deleteByIdAndMemberId(@Param("categoryId") Long categoryId,
+                              @Param("memberId") String memberId);
 }
@@ -0,0 +1,7 @@
+package com.hyeonuk.todo.todo.repository;
+
+import java.time.LocalDate;
+
+//일별 todo 개수와 완료된 todo 개수. db에서 group by로 계산한 결과
+public record TodoDailyCount(LocalDate date, Long total, Long completed) {
+}
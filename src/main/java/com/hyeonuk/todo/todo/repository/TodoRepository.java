@@ -3,20 +3,118 @@ package com.hyeonuk.todo.todo.repository;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.todo.entity.Category;
 import com.hyeonuk.todo.todo.entity.Todo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo,Long> {
-    @Query("select t from Todo t " +
-            "left join fetch t.member m " +
-            "left join fetch t.category c " +
-            "where m.id = :memberId " +
-            "order by t.complete asc, t.createdAt desc")
-    List<Todo> findTodosWithCategoriesByMemberId(@Param("memberId") String memberId);
-
-    @Query("delete from Todo t where t.category = :category")
-    void deleteAllByCategory(@Param("category")Category category);
+    //export용. 결과를 한번에 list로 만들지 않고 fetch size만큼씩 읽어옴
+    //MySQL에서는 useCursorFetch=true여야 fetch size가 적용됨 (DataSourceConfig에서 mysql url일 때 추가)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.hyeonuk.todo.todo.repository.TodoView(t.id, t.content, t.complete, c.id, c.title, t.createdAt) " +
+            "from Todo t " +
+            "left join t.category c " +
+            "where t.member.id = :memberId " +
+            "order by t.id")
+    Stream<TodoView> streamTodoViewsByMemberId(@Param("memberId") String memberId);
+
+    //keyset pagination. (member_id, complete, created_at, todo_id) index를 순서대로 읽음
+    //complete 값마다 따로 조회해서 OR 조건 없이 index range scan만 하도록 함
+    @Query("select new com.hyeonuk.todo.todo.repository.TodoView(t.id, t.content, t.complete, c.id, c.title, t.createdAt) " +
+            "from Todo t " +
+            "left join t.category c " +
+            "where t.member.id = :memberId and t.complete = :complete " +
+            "order by t.createdAt desc, t.id desc")
+    List<TodoView> findPageByMemberId(@Param("memberId") String memberId,
+                                      @Param("complete") boolean complete,
+                                      Pageable pageable);
+
+    @Query("select new com.hyeonuk.todo.todo.repository.TodoView(t.id, t.content, t.complete, c.id, c.title, t.createdAt) " +
+            "from Todo t " +
+            "left join t.category c " +
+            "where t.member.id = :memberId and t.complete = :complete " +
+            "and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :todoId)) " +
+            "order by t.createdAt desc, t.id desc")
+    List<TodoView> findPageByMemberIdAfter(@Param("memberId") String memberId,
+                                           @Param("complete") boolean complete,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("todoId") Long todoId,
+                                           Pageable pageable);
+
+    //[from, to) 기간의 todo를 생성일별로 집계. todo 엔티티를 불러오지 않고 날짜별 한 행씩만 리턴
+    @Query("select new com.hyeonuk.todo.todo.repository.TodoDailyCount(" +
+            "cast(t.createdAt as LocalDate), count(t), sum(case when t.complete = true then 1L else 0L end)) " +
+            "from Todo t " +
+            "where t.member.id = :memberId and t.createdAt >= :from and t.createdAt < :to " +
+            "group by cast(t.createdAt as LocalDate)")
+    List<TodoDailyCount> countDailyByMemberId(@Param("memberId") String memberId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    //소유자 확인과 변경을 한번의 update로 처리. 변경된 행 수를 리턴하므로 0이면 없는 todo이거나 타인의 todo
+    //bulk 연산은 엔티티 listener를 거치지 않으므로 updatedAt을 직접 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("update Todo t set t.content = :content, t.updatedAt = :now " +
+            "where t.id = :todoId and t.member.id = :memberId")
+    int updateContent(@Param("todoId") Long todoId,
+                      @Param("memberId") String memberId,
+                      @Param("content") String content,
+                      @Param("now") LocalDateTime now);
+
+    //현재 값을 읽지 않고 update 한번으로 반전 (complete = not complete)
+    @Modifying(clearAutomatically = true)
+    @Query("update Todo t set t.complete = case when t.complete = true then false else true end, t.updatedAt = :now " +
+            "where t.id = :todoId and t.member.id = :memberId")
+    int toggleComplete(@Param("todoId") Long todoId,
+                       @Param("memberId") String memberId,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Todo t where t.id = :todoId and t.member.id = :memberId")
+    int deleteByIdAndMemberId(@Param("todoId") Long todoId,
+                              @Param("memberId") String memberId);
+
+    //batch 연산의 소유자 확인. 요청한 id 중 회원의 todo인 것만 한번의 IN 조회로 찾음
+    @Query("select t.id from Todo t where t.id in :todoIds and t.member.id = :memberId")
+    List<Long> findIdsByIdInAndMemberId(@Param("todoIds") Collection<Long> todoIds,
+                                        @Param("memberId") String memberId);
+
+    @Query("select t.id from Todo t where t.id in :todoIds")
+    List<Long> findIdsByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("select t from Todo t where t.id in :todoIds and t.member.id = :memberId")
+    List<Todo> findAllByIdInAndMemberId(@Param("todoIds") Collection<Long> todoIds,
+                                        @Param("memberId") String memberId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Todo t set t.complete = :complete, t.updatedAt = :now " +
+            "where t.id in :todoIds and t.member.id = :memberId")
+    int updateCompleteByIdInAndMemberId(@Param("todoIds") Collection<Long> todoIds,
+                                        @Param("memberId") String memberId,
+                                        @Param("complete") boolean complete,
+                                        @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Todo t where t.id in :todoIds and t.member.id = :memberId")
+    int deleteByIdInAndMemberId(@Param("todoIds") Collection<Long> todoIds,
+                                @Param("memberId") String memberId);
+
+    //카테고리 삭제 시 하위 todo를 엔티티로 불러오지 않고 한번에 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Todo t where t.category.id = :categoryId and t.member.id = :memberId")
+    int deleteAllByCategoryIdAndMemberId(@Param("categoryId") Long categoryId,
+                                         @Param("memberId") String memberId);
 }
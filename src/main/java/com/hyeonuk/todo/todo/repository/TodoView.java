@@ -0,0 +1,7 @@
+package com.hyeonuk.todo.todo.repository;
+
+import java.time.LocalDateTime;
+
+//목록 조회용 projection. 화면에 필요한 컬럼만 조회하고 영속성 컨텍스트에는 아무것도 올리지 않음
+public record TodoView(Long todoId, String content, Boolean complete, Long categoryId, String categoryTitle, LocalDateTime createdAt) {
+}
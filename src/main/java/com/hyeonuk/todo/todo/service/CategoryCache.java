@@ -0,0 +1,175 @@
+package com.hyeonuk.todo.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hyeonuk.todo.todo.repository.CategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * 회원별 카테고리 목록(id, title) cache
+ * - 서버마다 Caffeine에 보관하고, 카테고리 수 만큼의 weight로 전체 크기를 제한
+ * - 여러 서버의 일관성은 cache서버의 회원별 version으로 맞춤. 조회 시 version이 다르면 DB에서 다시 읽음
+ * - save/update/delete는 commit 후 version을 올리고, 직전 version의 목록이면 그 변경만 반영(write-through), 아니면 버림
+ * - version key가 만료되거나 사라진 뒤 처음 올릴 때는 1이 아닌 현재 시각(ms)부터 시작하므로 이전에 사용한 version과 겹치지 않음
+ */
+@Component
+@Slf4j
+public class CategoryCache {
+    private static final String KEY_PREFIX = "category:version:";
+
+    //변경이 없는 회원의 version key는 만료시킴. 만료 후에도 version은 줄어들지 않으므로 local cache의 ttl보다 길기만 하면 됨
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    //version 증가와 만료시간 설정을 한번의 왕복으로 처리. key가 없으면 ARGV[1](현재 시각)부터 시작
+    private static final RedisScript<Long> INCREMENT_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[1]) " +
+            "if version == 1 then redis.call('SET', KEYS[1], ARGV[1]) version = tonumber(ARGV[1]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return version", Long.class);
+
+    private final Cache<String, CategoryList> cache;
+
+    private final CategoryRepository categoryRepository;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public CategoryCache(@Value("${category.cache.max-weight:100000}") long maxWeight,
+                         @Value("${category.cache.ttl:600000}") long ttl,
+                         CategoryRepository categoryRepository,
+                         StringRedisTemplate redisTemplate,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String memberId, CategoryList list) -> list.categories().size() + 1)
+                .expireAfterWrite(Duration.ofMillis(Math.min(ttl, VERSION_TTL.toMillis() / 2)))
+                .recordStats()
+                .build();
+        this.categoryRepository = categoryRepository;
+        this.redisTemplate = redisTemplate;
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "category.list");
+    }
+
+    public List<CategoryItem> findAll(String memberId) {
+        long version;
+        try {
+            version = currentVersion(memberId);
+        } catch (RuntimeException e) {
+            //version을 알 수 없으면 cache를 사용하지 않음
+            log.warn("category version read failed : {}", e.getMessage());
+            return load(memberId);
+        }
+
+        CategoryList cached = cache.getIfPresent(memberId);
+        if (cached != null && cached.version() == version) {
+            return cached.categories();
+        }
+
+        //version을 먼저 읽고 DB를 조회하므로 그 사이에 바뀐 목록은 다음 조회때 version이 달라서 다시 읽음
+        CategoryList loaded = new CategoryList(version, load(memberId));
+        cache.asMap().merge(memberId, loaded, (old, now) -> old.version() > now.version() ? old : now);
+        return loaded.categories();
+    }
+
+    public boolean isOwner(String memberId, Long categoryId) {
+        return categoryId != null && findAll(memberId).stream()
+                .anyMatch(c -> c.id().equals(categoryId));
+    }
+
+    public void added(String memberId, CategoryItem category) {
+        apply(memberId, categories -> {
+            List<CategoryItem> changed = new ArrayList<>(categories.size() + 1);
+            categories.stream()
+                    .filter(c -> !c.id().equals(category.id()))
+                    .forEach(changed::add);
+            changed.add(category);
+            changed.sort(Comparator.comparing(CategoryItem::id));
+            return changed;
+        });
+    }
+
+    public void updated(String memberId, CategoryItem category) {
+        apply(memberId, categories -> categories.stream()
+                .map(c -> c.id().equals(category.id()) ? category : c)
+                .toList());
+    }
+
+    public void removed(String memberId, Long categoryId) {
+        apply(memberId, categories -> categories.stream()
+                .filter(c -> !c.id().equals(categoryId))
+                .toList());
+    }
+
+    //어떤 변경인지 알 수 없을 때 사용 (ex. import로 여러 카테고리 생성)
+    public void evict(String memberId) {
+        apply(memberId, null);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    //트랜잭션 중이면 commit 후에 반영. rollback되면 아무것도 하지 않음
+    private void apply(String memberId, UnaryOperator<List<CategoryItem>> change) {
+        Runnable task = () -> {
+            long version;
+            try {
+                version = Objects.requireNonNull(redisTemplate.execute(INCREMENT_VERSION_SCRIPT,
+                        List.of(KEY_PREFIX.concat(memberId)),
+                        Long.toString(System.currentTimeMillis()), Long.toString(VERSION_TTL.toMillis())));
+            } catch (RuntimeException e) {
+                //다른 서버에는 알릴 수 없으므로 이 서버의 cache만 비움
+                log.warn("category version increase failed : {}", e.getMessage());
+                cache.invalidate(memberId);
+                return;
+            }
+            cache.asMap().computeIfPresent(memberId, (id, list) -> change != null && list.version() == version - 1
+                    ? new CategoryList(version, List.copyOf(change.apply(list.categories())))
+                    : null);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private long currentVersion(String memberId) {
+        String version = redisTemplate.opsForValue().get(KEY_PREFIX.concat(memberId));
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    private List<CategoryItem> load(String memberId) {
+        return categoryRepository.findIdAndTitleByMemberId(memberId).stream()
+                .map(row -> new CategoryItem((Long) row[0], (String) row[1]))
+                .toList();
+    }
+
+    public record CategoryItem(Long id, String title) {
+    }
+
+    private record CategoryList(long version, List<CategoryItem> categories) {
+    }
+}
@@ -6,6 +6,7 @@ import com.hyeonuk.todo.integ.util.StringUtils;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
 import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
 import com.hyeonuk.todo.todo.dto.CategoryDeleteDTO;
 import com.hyeonuk.todo.todo.dto.CategorySaveDTO;
 import com.hyeonuk.todo.todo.dto.CategoryUpdateDTO;
@@ -18,12 +19,16 @@ import org.apache.el.util.Validation;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService{
     private final MemberRepository memberRepository;
     private final CategoryRepository categoryRepository;
     private final TodoRepository todoRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final CategoryCache categoryCache;
 
     @Override
     @Transactional(rollbackFor = {UserInfoNotFoundException.class, ValidationException.class, CategoryException.class})
@@ -34,13 +39,16 @@ public class CategoryServiceImpl implements CategoryService{
                 throw new ValidationException("입력값을 확인해주세요");
             }
 
-            if(dto.getTitle().length() > 100){
-                throw new ValidationException("카테고리 타이틀은 100자 이하입니다.");
+            if(dto.getTitle().length() > Category.TITLE_MAX_LENGTH){
+                throw new ValidationException("카테고리 타이틀은 " + Category.TITLE_MAX_LENGTH + "자 이하입니다.");
             }
 
             String userId = dto.getUserId();
-            Member member = memberRepository.findById(userId)
-                    .orElseThrow(() -> new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다."));
+            //회원 존재 여부는 snapshot cache로 확인하고, category에는 select 없이 참조만 연결
+            if (!memberSnapshotCache.exists(userId)) {
+                throw new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다.");
+            }
+            Member member = memberRepository.getReferenceById(userId);
 
             Category category = Category.builder()
                     .member(member)
@@ -48,6 +56,7 @@ public class CategoryServiceImpl implements CategoryService{
                     .build();
 
             categoryRepository.save(category);
+            categoryCache.added(userId, new CategoryCache.CategoryItem(category.getId(), category.getTitle()));
 
             return CategorySaveDTO.Response.builder()
                     .categoryId(category.getId())
@@ -72,18 +81,19 @@ public class CategoryServiceImpl implements CategoryService{
             String userId = dto.getUserId();
             Long categoryId = dto.getCategoryId();
 
-            Member member = memberRepository.findById(userId)
-                    .orElseThrow(() -> new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다."));
-
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new NotFoundException("해당 category를 찾을 수 없습니다."));
-
-            if (!category.getMember().getId().equals(member.getId())) {
+            //하위 todo와 카테고리를 각각 delete 한번으로 삭제. 타인의 카테고리면 둘 다 0건
+            todoRepository.deleteAllByCategoryIdAndMemberId(categoryId, userId);
+            if (categoryRepository.deleteByIdAndMemberId(categoryId, userId) == 0) {
+                //삭제되지 않은 경우에만 원인을 조회. 예외가 발생하므로 todo 삭제도 rollback됨
+                if (!memberSnapshotCache.exists(userId)) {
+                    throw new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다.");
+                }
+                if (!categoryRepository.existsById(categoryId)) {
+                    throw new NotFoundException("해당 category를 찾을 수 없습니다.");
+                }
                 throw new ValidationException("입력값을 확인해주세요");
             }
-
-            todoRepository.deleteAllByCategory(category);
-            categoryRepository.deleteById(category.getId());
+            categoryCache.removed(userId, categoryId);
 
             return CategoryDeleteDTO.Response.builder()
                     .categoryId(categoryId)
@@ -105,25 +115,31 @@ public class CategoryServiceImpl implements CategoryService{
                 throw new ValidationException("입력값을 확인해주세요");
             }
 
-            if(dto.getTitle().length() > 100){
-                throw new ValidationException("카테고리 타이틀은 100자 이하입니다.");
+            if(dto.getTitle().length() > Category.TITLE_MAX_LENGTH){
+                throw new ValidationException("카테고리 타이틀은 " + Category.TITLE_MAX_LENGTH + "자 이하입니다.");
             }
 
             String userId = dto.getUserId();
             Long categoryId = dto.getCategoryId();
             String title = dto.getTitle();
 
-            Member member = memberRepository.findById(userId)
-                    .orElseThrow(() -> new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다."));
-
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new NotFoundException("해당 category를 찾을 수 없습니다."));
+            if (!memberSnapshotCache.exists(userId)) {
+                throw new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다.");
+            }
 
-            if (!category.getMember().getId().equals(member.getId())) {
+            //소유자 확인은 cache된 카테고리 목록으로 하고, 실패한 경우에만 원인을 DB에서 확인
+            if (!categoryCache.isOwner(userId, categoryId)) {
+                if (!categoryRepository.existsById(categoryId)) {
+                    throw new NotFoundException("해당 category를 찾을 수 없습니다.");
+                }
                 throw new ValidationException("입력값을 확인해주세요");
             }
 
-            category.updateTitle(title);
+            //확인 이후에 삭제된 경우 0
+            if (categoryRepository.updateTitle(categoryId, userId, title, LocalDateTime.now()) == 0) {
+                throw new NotFoundException("해당 category를 찾을 수 없습니다.");
+            }
+            categoryCache.updated(userId, new CategoryCache.CategoryItem(categoryId, title));
 
             return CategoryUpdateDTO.Response.builder()
                     .categoryId(categoryId)
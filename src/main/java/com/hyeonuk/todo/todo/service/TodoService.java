@@ -14,5 +14,15 @@ public interface TodoService {
 
     TodoToggleDTO.Response toggle(TodoToggleDTO.Request dto) throws TodoException, ValidationException, UserInfoNotFoundException, NotFoundException;
 
+    TodoListDTO.Response findTodos(TodoListDTO.Request dto) throws ValidationException, TodoException;
+
+    TodoCalendarDTO.Response calendar(TodoCalendarDTO.Request dto) throws ValidationException, TodoException;
+
     TodoDeleteDTO.Response delete(TodoDeleteDTO.Request dto) throws ValidationException, UserInfoNotFoundException, NotFoundException, TodoException;
+
+    TodoBatchUpdateDTO.Response updateAll(TodoBatchUpdateDTO.Request dto) throws ValidationException, NotFoundException, TodoException;
+
+    TodoBatchCompleteDTO.Response completeAll(TodoBatchCompleteDTO.Request dto) throws ValidationException, NotFoundException, TodoException;
+
+    TodoBatchDeleteDTO.Response deleteAll(TodoBatchDeleteDTO.Request dto) throws ValidationException, NotFoundException, TodoException;
 }
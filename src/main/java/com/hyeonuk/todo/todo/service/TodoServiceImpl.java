@@ -2,11 +2,18 @@ package com.hyeonuk.todo.todo.service;
 
 import com.hyeonuk.todo.integ.exception.NotFoundException;
 import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.integ.filter.xss.XssFilterRequestWrapper;
 import com.hyeonuk.todo.integ.util.StringUtils;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
 import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
+import com.hyeonuk.todo.todo.dto.TodoBatchCompleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoBatchDeleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoBatchUpdateDTO;
+import com.hyeonuk.todo.todo.dto.TodoCalendarDTO;
 import com.hyeonuk.todo.todo.dto.TodoDeleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoListDTO;
 import com.hyeonuk.todo.todo.dto.TodoSaveDTO;
 import com.hyeonuk.todo.todo.dto.TodoToggleDTO;
 import com.hyeonuk.todo.todo.dto.TodoUpdateDTO;
@@ -14,19 +21,42 @@ import com.hyeonuk.todo.todo.entity.Category;
 import com.hyeonuk.todo.todo.entity.Todo;
 import com.hyeonuk.todo.todo.exception.TodoException;
 import com.hyeonuk.todo.todo.repository.CategoryRepository;
+import com.hyeonuk.todo.todo.repository.TodoDailyCount;
 import com.hyeonuk.todo.todo.repository.TodoRepository;
+import com.hyeonuk.todo.todo.repository.TodoView;
 import lombok.RequiredArgsConstructor;
 import org.apache.el.util.Validation;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class TodoServiceImpl implements TodoService {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    //batch 요청 한번에 처리할 수 있는 최대 todo 수
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final MemberRepository memberRepository;
     private final CategoryRepository categoryRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final CategoryCache categoryCache;
 
     @Override
     @Transactional(isolation = Isolation.READ_COMMITTED,rollbackFor = {TodoException.class, ValidationException.class, UserInfoNotFoundException.class, NotFoundException.class})
@@ -40,11 +70,17 @@ public class TodoServiceImpl implements TodoService {
                 throw new ValidationException("입력값을 확인해주세요");
             }
 
-            Member member = memberRepository.findById(userId)
-                    .orElseThrow(() -> new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다."));
+            //회원 존재 여부는 snapshot cache로 확인하고, todo에는 select 없이 참조만 연결
+            if (!memberSnapshotCache.exists(userId)) {
+                throw new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다.");
+            }
+            Member member = memberRepository.getReferenceById(userId);
 
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new NotFoundException("카테고리가 존재하지 않습니다."));
+            //다른 회원의 카테고리도 존재하지 않는 것으로 처리
+            if (!categoryCache.isOwner(userId, categoryId)) {
+                throw new NotFoundException("카테고리가 존재하지 않습니다.");
+            }
+            Category category = categoryRepository.getReferenceById(categoryId);
 
             Todo todo = Todo.builder()
                     .member(member)
@@ -80,21 +116,17 @@ public class TodoServiceImpl implements TodoService {
                 throw new ValidationException("변경할 Todo의 내용을 입력해주세요");
             }
 
-            Member member = memberRepository.findById(userId)
-                    .orElseThrow(() -> new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다."));
-
-            Todo todo = todoRepository.findById(todoId)
-                    .orElseThrow(() -> new NotFoundException("todo가 존재하지 않습니다."));
-
-            if (!todo.getMember().getId().equals(member.getId())) {
-                throw new ValidationException("타인의 Todo는 업데이트가 불가능합니다.");
+            //bulk update는 길이 검사 listener를 거치지 않으므로 여기서 검사
+            if (updated.length() > Todo.CONTENT_MAX_LENGTH) {
+                throw new ValidationException("Todo의 내용은 " + Todo.CONTENT_MAX_LENGTH + "자 이하여야 합니다.");
             }
 
-            todo.updateContent(updated);
+            int affected = todoRepository.updateContent(todoId, userId, updated, LocalDateTime.now());
+            checkAffected(affected, todoId, "todo가 존재하지 않습니다.", "타인의 Todo는 업데이트가 불가능합니다.");
 
             return TodoUpdateDTO.Response.builder()
-                    .todoId(todo.getId())
-                    .content(todo.getContent())
+                    .todoId(todoId)
+                    .content(updated)
                     .build();
         } catch (ValidationException | UserInfoNotFoundException | NotFoundException e) {
             throw e;
@@ -114,19 +146,12 @@ public class TodoServiceImpl implements TodoService {
                 throw new ValidationException("입력값을 확인해주세요");
             }
 
-            Member member = memberRepository.findById(userId)
-                    .orElseThrow(() -> new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다."));
-
-            Todo todo = todoRepository.findById(todoId)
-                    .orElseThrow(() -> new NotFoundException("해당 todo를 찾을 수 없습니다."));
-
-            if (!todo.getMember().getId().equals(member.getId())) {
-                throw new ValidationException("타인의 Todo는 업데이트가 불가능합니다.");
-            }
+            //update 한번으로 반전하고 변경된 행 수만 확인. 변경된 상태를 다시 조회하지 않음
+            int affected = todoRepository.toggleComplete(todoId, userId, LocalDateTime.now());
+            checkAffected(affected, todoId, "해당 todo를 찾을 수 없습니다.", "타인의 Todo는 업데이트가 불가능합니다.");
 
-            boolean result = todo.toggleComplete();
             return TodoToggleDTO.Response.builder()
-                    .result(result)
+                    .todoId(todoId)
                     .build();
         }catch(ValidationException | NotFoundException | UserInfoNotFoundException e){
             throw e;
@@ -135,6 +160,120 @@ public class TodoServiceImpl implements TodoService {
         }
     }
 
+    //미완료 todo를 먼저, 같은 완료여부 안에서는 최신순으로 size개씩 조회
+    //offset 대신 마지막 todo의 (complete, createdAt, todoId)를 기준으로 다음 페이지를 찾으므로 페이지가 깊어져도 읽는 행 수가 일정함
+    @Override
+    @Transactional(readOnly = true)
+    public TodoListDTO.Response findTodos(TodoListDTO.Request dto) throws ValidationException, TodoException {
+        try {
+            String userId = dto.getUserId();
+            int size = dto.getSize() == null ? DEFAULT_PAGE_SIZE : dto.getSize();
+
+            if (userId == null || StringUtils.isBlank(userId) || size < 1 || size > MAX_PAGE_SIZE) {
+                throw new ValidationException("입력값을 확인해주세요");
+            }
+
+            //cursor는 모두 있거나 모두 없어야 함
+            boolean first = dto.getComplete() == null && dto.getCreatedAt() == null && dto.getTodoId() == null;
+            if (!first && (dto.getComplete() == null || dto.getCreatedAt() == null || dto.getTodoId() == null)) {
+                throw new ValidationException("잘못된 페이지 정보입니다.");
+            }
+
+            //다음 페이지 존재 여부를 알기 위해 한개를 더 조회
+            int limit = size + 1;
+            List<TodoView> todos = new ArrayList<>(limit);
+            if (first || !dto.getComplete()) {
+                todos.addAll(first
+                        ? todoRepository.findPageByMemberId(userId, false, PageRequest.of(0, limit))
+                        : todoRepository.findPageByMemberIdAfter(userId, false, dto.getCreatedAt(), dto.getTodoId(), PageRequest.of(0, limit)));
+            }
+            if (todos.size() < limit) {
+                todos.addAll(first || !dto.getComplete()
+                        ? todoRepository.findPageByMemberId(userId, true, PageRequest.of(0, limit - todos.size()))
+                        : todoRepository.findPageByMemberIdAfter(userId, true, dto.getCreatedAt(), dto.getTodoId(), PageRequest.of(0, limit - todos.size())));
+            }
+
+            boolean hasNext = todos.size() > size;
+            if (hasNext) {
+                todos = todos.subList(0, size);
+            }
+            TodoView last = todos.isEmpty() ? null : todos.get(todos.size() - 1);
+
+            return TodoListDTO.Response.builder()
+                    .todos(todos.stream()
+                            .map(this::viewToItem)
+                            .collect(Collectors.toList()))
+                    .hasNext(hasNext)
+                    .next(hasNext ? TodoListDTO.Cursor.builder()
+                            .complete(last.complete())
+                            .createdAt(last.createdAt())
+                            .todoId(last.todoId())
+                            .build() : null)
+                    .build();
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TodoException("todo 조회 오류");
+        }
+    }
+
+    //한달치 일별 todo 개수와 완료 개수. 집계는 db에서 하고 서버는 말일까지 빈 날짜만 채움
+    @Override
+    @Transactional(readOnly = true)
+    public TodoCalendarDTO.Response calendar(TodoCalendarDTO.Request dto) throws ValidationException, TodoException {
+        try {
+            String userId = dto.getUserId();
+
+            if (userId == null || StringUtils.isBlank(userId) || dto.getYear() == null || dto.getMonth() == null) {
+                throw new ValidationException("입력값을 확인해주세요");
+            }
+
+            YearMonth yearMonth;
+            try {
+                yearMonth = YearMonth.of(dto.getYear(), dto.getMonth());
+            } catch (DateTimeException e) {
+                throw new ValidationException("잘못된 날짜입니다.");
+            }
+
+            TodoCalendarDTO.Day[] days = new TodoCalendarDTO.Day[yearMonth.lengthOfMonth()];
+            for (int i = 0; i < days.length; i++) {
+                days[i] = TodoCalendarDTO.Day.builder()
+                        .day(i + 1)
+                        .build();
+            }
+
+            List<TodoDailyCount> counts = todoRepository.countDailyByMemberId(userId,
+                    yearMonth.atDay(1).atStartOfDay(),
+                    yearMonth.plusMonths(1).atDay(1).atStartOfDay());
+            for (TodoDailyCount count : counts) {
+                TodoCalendarDTO.Day day = days[count.date().getDayOfMonth() - 1];
+                day.setTotal(count.total());
+                day.setCompleted(count.completed());
+            }
+
+            return TodoCalendarDTO.Response.builder()
+                    .year(yearMonth.getYear())
+                    .month(yearMonth.getMonthValue())
+                    .days(List.of(days))
+                    .build();
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TodoException("달력 조회 오류");
+        }
+    }
+
+    private TodoListDTO.Item viewToItem(TodoView view) {
+        return TodoListDTO.Item.builder()
+                .todoId(view.todoId())
+                .categoryId(view.categoryId())
+                .categoryTitle(view.categoryTitle())
+                .content(view.content())
+                .complete(view.complete())
+                .createdAt(view.createdAt())
+                .build();
+    }
+
     @Override
     @Transactional(rollbackFor = {TodoException.class, ValidationException.class, UserInfoNotFoundException.class, NotFoundException.class})
     public TodoDeleteDTO.Response delete(TodoDeleteDTO.Request dto) throws ValidationException, UserInfoNotFoundException, NotFoundException, TodoException {
@@ -146,18 +285,11 @@ public class TodoServiceImpl implements TodoService {
                 throw new ValidationException("입력값을 확인해주세요");
             }
 
-            Member member = memberRepository.findById(userId)
-                    .orElseThrow(() -> new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다."));
-            Todo todo = todoRepository.findById(todoId)
-                    .orElseThrow(() -> new NotFoundException("해당 todo를 찾을 수 없습니다."));
+            int affected = todoRepository.deleteByIdAndMemberId(todoId, userId);
+            checkAffected(affected, todoId, "해당 todo를 찾을 수 없습니다.", "타인의 Todo를 삭제할 수 없습니다.");
 
-            if (!todo.getMember().getId().equals(member.getId())) {
-                throw new ValidationException("타인의 Todo를 삭제할 수 없습니다.");
-            }
-
-            todoRepository.delete(todo);
             return TodoDeleteDTO.Response.builder()
-                    .todoId(todo.getId())
+                    .todoId(todoId)
                     .build();
         } catch (ValidationException | UserInfoNotFoundException | NotFoundException e) {
             throw e;
@@ -165,4 +297,131 @@ public class TodoServiceImpl implements TodoService {
             throw new TodoException("Todo삭제 오류");
         }
     }
+
+    //변경된 행이 없으면 todo가 없는 경우(NotFound)와 타인의 todo인 경우(Validation)를 구분해서 throw
+    //실패한 경우에만 존재 여부를 한번 더 조회함
+    private void checkAffected(int affected, Long todoId, String notFoundMessage, String notOwnerMessage) throws NotFoundException, ValidationException {
+        if (affected > 0) {
+            return;
+        }
+        if (!todoRepository.existsById(todoId)) {
+            throw new NotFoundException(notFoundMessage);
+        }
+        throw new ValidationException(notOwnerMessage);
+    }
+
+    //여러 todo의 내용을 한 트랜잭션에서 변경. 소유자 확인은 IN 조회 한번으로 하고 update는 jdbc batch로 전송됨
+    //하나라도 없거나 타인의 todo면 아무것도 변경하지 않음
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED, rollbackFor = {TodoException.class, ValidationException.class, NotFoundException.class})
+    public TodoBatchUpdateDTO.Response updateAll(TodoBatchUpdateDTO.Request dto) throws ValidationException, NotFoundException, TodoException {
+        try {
+            String userId = dto.getUserId();
+            List<TodoBatchUpdateDTO.Change> changes = dto.getChanges();
+
+            if (userId == null || StringUtils.isBlank(userId) || changes == null || changes.isEmpty() || changes.size() > MAX_BATCH_SIZE) {
+                throw new ValidationException("입력값을 확인해주세요");
+            }
+
+            //todoId -> 변경할 내용
+            Map<Long, String> contents = new LinkedHashMap<>();
+            for (TodoBatchUpdateDTO.Change change : changes) {
+                if (change == null || change.getTodoId() == null || StringUtils.isBlank(change.getContent())) {
+                    throw new ValidationException("변경할 Todo의 내용을 입력해주세요");
+                }
+                //xss filter는 PATCH 요청의 body를 치환하지 않으므로 같은 치환을 직접 적용한 뒤 길이를 검사
+                String content = XssFilterRequestWrapper.escape(change.getContent());
+                if (content.length() > Todo.CONTENT_MAX_LENGTH) {
+                    throw new ValidationException("Todo의 내용은 " + Todo.CONTENT_MAX_LENGTH + "자 이하여야 합니다.");
+                }
+                if (contents.putIfAbsent(change.getTodoId(), content) != null) {
+                    throw new ValidationException("같은 Todo를 중복해서 변경할 수 없습니다.");
+                }
+            }
+
+            Map<Long, Todo> todos = todoRepository.findAllByIdInAndMemberId(contents.keySet(), userId).stream()
+                    .collect(Collectors.toMap(Todo::getId, Function.identity()));
+            checkOwned(contents.keySet(), todos.keySet(), "타인의 Todo는 업데이트가 불가능합니다.");
+
+            //변경감지로 flush될 때 같은 형태의 update문이 batch_size만큼 묶여서 전송됨
+            contents.forEach((todoId, content) -> todos.get(todoId).updateContent(content));
+            //commit 시점이 아닌 여기서 flush해서 update 중 발생한 DB 오류도 TodoException으로 감쌈
+            todoRepository.flush();
+
+            return TodoBatchUpdateDTO.Response.builder()
+                    .todoIds(new ArrayList<>(contents.keySet()))
+                    .build();
+        } catch (ValidationException | NotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TodoException("todo 업데이트 오류");
+        }
+    }
+
+    //여러 todo의 완료 여부를 한번의 update로 변경
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED, rollbackFor = {TodoException.class, ValidationException.class, NotFoundException.class})
+    public TodoBatchCompleteDTO.Response completeAll(TodoBatchCompleteDTO.Request dto) throws ValidationException, NotFoundException, TodoException {
+        try {
+            String userId = dto.getUserId();
+            Boolean complete = dto.getComplete();
+            Set<Long> todoIds = batchIds(userId, dto.getTodoIds());
+
+            if (complete == null) {
+                throw new ValidationException("입력값을 확인해주세요");
+            }
+
+            checkOwned(todoIds, todoRepository.findIdsByIdInAndMemberId(todoIds, userId), "타인의 Todo는 업데이트가 불가능합니다.");
+            todoRepository.updateCompleteByIdInAndMemberId(todoIds, userId, complete, LocalDateTime.now());
+
+            return TodoBatchCompleteDTO.Response.builder()
+                    .todoIds(new ArrayList<>(todoIds))
+                    .complete(complete)
+                    .build();
+        } catch (ValidationException | NotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TodoException("toggle 오류");
+        }
+    }
+
+    //여러 todo를 한번의 delete로 삭제
+    @Override
+    @Transactional(rollbackFor = {TodoException.class, ValidationException.class, NotFoundException.class})
+    public TodoBatchDeleteDTO.Response deleteAll(TodoBatchDeleteDTO.Request dto) throws ValidationException, NotFoundException, TodoException {
+        try {
+            String userId = dto.getUserId();
+            Set<Long> todoIds = batchIds(userId, dto.getTodoIds());
+
+            checkOwned(todoIds, todoRepository.findIdsByIdInAndMemberId(todoIds, userId), "타인의 Todo를 삭제할 수 없습니다.");
+            todoRepository.deleteByIdInAndMemberId(todoIds, userId);
+
+            return TodoBatchDeleteDTO.Response.builder()
+                    .todoIds(new ArrayList<>(todoIds))
+                    .build();
+        } catch (ValidationException | NotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TodoException("Todo삭제 오류");
+        }
+    }
+
+    private Set<Long> batchIds(String userId, List<Long> todoIds) throws ValidationException {
+        if (userId == null || StringUtils.isBlank(userId) || todoIds == null || todoIds.isEmpty() || todoIds.size() > MAX_BATCH_SIZE
+                || todoIds.contains(null)) {
+            throw new ValidationException("입력값을 확인해주세요");
+        }
+        return new LinkedHashSet<>(todoIds);
+    }
+
+    //요청한 todo가 모두 회원의 todo인지 확인. 아니면 없는 todo가 있는지 한번 더 조회해서 NotFound와 Validation을 구분
+    private void checkOwned(Set<Long> todoIds, Collection<Long> ownedIds, String notOwnerMessage) throws NotFoundException, ValidationException {
+        if (ownedIds.size() == todoIds.size()) {
+            return;
+        }
+        if (todoRepository.findIdsByIdIn(todoIds).size() < todoIds.size()) {
+            throw new NotFoundException("해당 todo를 찾을 수 없습니다.");
+        }
+        throw new ValidationException(notOwnerMessage);
+    }
 }
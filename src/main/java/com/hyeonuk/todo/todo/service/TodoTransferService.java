@@ -0,0 +1,17 @@
+package com.hyeonuk.todo.todo.service;
+
+import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
+import com.hyeonuk.todo.todo.data.TransferFormat;
+import com.hyeonuk.todo.todo.dto.TodoTransferDTO;
+import com.hyeonuk.todo.todo.exception.TodoException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface TodoTransferService {
+
+    TodoTransferDTO.ImportResponse importTodos(String userId, InputStream in, TransferFormat format) throws ValidationException, UserInfoNotFoundException, TodoException;
+
+    void exportTodos(String userId, OutputStream out, TransferFormat format) throws ValidationException, TodoException;
+}
@@ -0,0 +1,287 @@
+package com.hyeonuk.todo.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.integ.filter.xss.XssFilterRequestWrapper;
+import com.hyeonuk.todo.integ.util.CsvUtils;
+import com.hyeonuk.todo.integ.util.StringUtils;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
+import com.hyeonuk.todo.todo.data.TransferFormat;
+import com.hyeonuk.todo.todo.dto.TodoTransferDTO;
+import com.hyeonuk.todo.todo.entity.Category;
+import com.hyeonuk.todo.todo.entity.Todo;
+import com.hyeonuk.todo.todo.exception.TodoException;
+import com.hyeonuk.todo.todo.repository.CategoryRepository;
+import com.hyeonuk.todo.todo.repository.TodoRepository;
+import com.hyeonuk.todo.todo.repository.TodoView;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class TodoTransferServiceImpl implements TodoTransferService {
+    //flush 후 영속성 컨텍스트를 비우는 단위. hibernate.jdbc.batch_size와 같게 맞춤
+    private static final int FLUSH_SIZE = 100;
+    //한 줄(csv는 레코드 하나)의 최대 글자 수. 이스케이프를 감안해도 정상적인 row는 이보다 훨씬 짧음
+    //줄바꿈 없는 큰 입력을 끝까지 메모리에 올리지 않고 해당 줄에서 거절함
+    static final int MAX_LINE_LENGTH = 4096;
+    private static final String[] CSV_HEADER = {"category", "content", "complete"};
+
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final CategoryCache categoryCache;
+    private final CategoryRepository categoryRepository;
+    private final TodoRepository todoRepository;
+    private final EntityManager em;
+    private final ObjectReader rowReader;
+    private final ObjectWriter rowWriter;
+
+    public TodoTransferServiceImpl(MemberSnapshotCache memberSnapshotCache,
+                                   CategoryRepository categoryRepository,
+                                   TodoRepository todoRepository,
+                                   CategoryCache categoryCache,
+                                   EntityManager em,
+                                   ObjectMapper objectMapper) {
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.categoryRepository = categoryRepository;
+        this.todoRepository = todoRepository;
+        this.categoryCache = categoryCache;
+        this.em = em;
+        this.rowReader = objectMapper.readerFor(TodoTransferDTO.Row.class);
+        this.rowWriter = objectMapper.writerFor(TodoTransferDTO.Row.class);
+    }
+
+    //한 줄씩 읽어서 저장하고 FLUSH_SIZE마다 flush/clear 하므로 파일 크기와 상관없이 메모리 사용량이 일정함
+    //insert는 jdbc batch로 묶여서 전송되고, 한 줄이라도 잘못되면 전체를 rollback
+    @Override
+    @Transactional(rollbackFor = {ValidationException.class, UserInfoNotFoundException.class, TodoException.class})
+    public TodoTransferDTO.ImportResponse importTodos(String userId, InputStream in, TransferFormat format) throws ValidationException, UserInfoNotFoundException, TodoException {
+        try {
+            if (userId == null || StringUtils.isBlank(userId) || format == null) {
+                throw new ValidationException("입력값을 확인해주세요");
+            }
+            if (!memberSnapshotCache.exists(userId)) {
+                throw new UserInfoNotFoundException("사용자 정보가 일치하지 않습니다.");
+            }
+
+            //이미 있는 카테고리는 title로 찾아서 재사용
+            Map<String, Long> categoryIds = new HashMap<>();
+            for (Object[] category : categoryRepository.findIdAndTitleByMemberId(userId)) {
+                categoryIds.putIfAbsent((String) category[1], (Long) category[0]);
+            }
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            int categories = 0;
+            int todos = 0;
+            int line = 0;
+            int pending = 0;
+            TodoTransferDTO.Row row;
+            while ((row = readRow(reader, format, ++line)) != null) {
+                if (row.getCategory() == null && row.getContent() == null) {
+                    continue;
+                }
+                //body를 거치지 않으므로 xss filter와 같은 치환을 직접 적용한 뒤 길이를 검사
+                row.setCategory(XssFilterRequestWrapper.escape(row.getCategory()));
+                row.setContent(XssFilterRequestWrapper.escape(row.getContent()));
+                validate(row, line);
+
+                Member member = em.getReference(Member.class, userId);
+                Long categoryId = null;
+                String title = row.getCategory();
+                if (title != null && !StringUtils.isBlank(title)) {
+                    categoryId = categoryIds.get(title);
+                    if (categoryId == null) {
+                        //sequence로 id를 미리 받아오므로 insert 전에도 id를 알 수 있음
+                        Category category = categoryRepository.save(Category.builder()
+                                .member(member)
+                                .title(title)
+                                .build());
+                        categoryId = category.getId();
+                        categoryIds.put(title, categoryId);
+                        categories++;
+                        pending++;
+                    }
+                }
+
+                if (row.getContent() != null) {
+                    todoRepository.save(Todo.builder()
+                            .member(member)
+                            .category(categoryId == null ? null : em.getReference(Category.class, categoryId))
+                            .content(row.getContent())
+                            .complete(Boolean.TRUE.equals(row.getComplete()))
+                            .build());
+                    todos++;
+                    pending++;
+                }
+
+                if (pending >= FLUSH_SIZE) {
+                    em.flush();
+                    em.clear();
+                    pending = 0;
+                }
+            }
+            em.flush();
+            em.clear();
+            if (categories > 0) {
+                categoryCache.evict(userId);
+            }
+
+            return TodoTransferDTO.ImportResponse.builder()
+                    .categories(categories)
+                    .todos(todos)
+                    .build();
+        } catch (ValidationException | UserInfoNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("todo import failed", e);
+            throw new TodoException("todo 가져오기 오류");
+        }
+    }
+
+    //카테고리 목록을 먼저 쓰고 todo는 stream으로 한 행씩 읽어서 바로 씀
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTodos(String userId, OutputStream out, TransferFormat format) throws ValidationException, TodoException {
+        try {
+            if (userId == null || StringUtils.isBlank(userId) || format == null) {
+                throw new ValidationException("입력값을 확인해주세요");
+            }
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == TransferFormat.CSV) {
+                writer.write(CsvUtils.toRecord(CSV_HEADER));
+            }
+
+            for (Object[] category : categoryRepository.findIdAndTitleByMemberId(userId)) {
+                writeRow(writer, format, TodoTransferDTO.Row.builder()
+                        .category((String) category[1])
+                        .build());
+            }
+
+            try (Stream<TodoView> stream = todoRepository.streamTodoViewsByMemberId(userId)) {
+                Iterator<TodoView> todos = stream.iterator();
+                while (todos.hasNext()) {
+                    TodoView todo = todos.next();
+                    writeRow(writer, format, TodoTransferDTO.Row.builder()
+                            .category(todo.categoryTitle())
+                            .content(todo.content())
+                            .complete(todo.complete())
+                            .build());
+                }
+            }
+            writer.flush();
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("todo export failed", e);
+            throw new TodoException("todo 내보내기 오류");
+        }
+    }
+
+    private void validate(TodoTransferDTO.Row row, int line) throws ValidationException {
+        if (row.getCategory() != null && row.getCategory().length() > Category.TITLE_MAX_LENGTH) {
+            throw new ValidationException(line + "번째 줄 : 카테고리 타이틀은 " + Category.TITLE_MAX_LENGTH + "자 이하입니다.");
+        }
+        if (row.getContent() != null && StringUtils.isBlank(row.getContent())) {
+            throw new ValidationException(line + "번째 줄 : Todo의 내용을 입력해주세요");
+        }
+        if (row.getContent() != null && row.getContent().length() > Todo.CONTENT_MAX_LENGTH) {
+            throw new ValidationException(line + "번째 줄 : Todo의 내용은 " + Todo.CONTENT_MAX_LENGTH + "자 이하여야 합니다.");
+        }
+    }
+
+    //다음 줄. 더 이상 없으면 null
+    private TodoTransferDTO.Row readRow(BufferedReader reader, TransferFormat format, int line) throws IOException, ValidationException {
+        if (format == TransferFormat.NDJSON) {
+            String json = readLine(reader, line);
+            if (json == null) {
+                return null;
+            }
+            if (StringUtils.isBlank(json)) {
+                return new TodoTransferDTO.Row();
+            }
+            try {
+                return rowReader.readValue(json);
+            } catch (IOException e) {
+                throw new ValidationException(line + "번째 줄 : 잘못된 형식입니다.");
+            }
+        }
+
+        List<String> fields;
+        try {
+            fields = CsvUtils.readRecord(reader, MAX_LINE_LENGTH);
+        } catch (CsvUtils.RecordTooLongException e) {
+            throw tooLong(line);
+        }
+        if (fields == null) {
+            return null;
+        }
+        //header와 빈 줄은 건너뜀
+        if ((line == 1 && CSV_HEADER[0].equals(fields.get(0))) || (fields.size() == 1 && fields.get(0).isEmpty())) {
+            return new TodoTransferDTO.Row();
+        }
+        if (fields.size() > CSV_HEADER.length) {
+            throw new ValidationException(line + "번째 줄 : 잘못된 형식입니다.");
+        }
+        return TodoTransferDTO.Row.builder()
+                .category(field(fields, 0))
+                .content(field(fields, 1))
+                .complete(Boolean.parseBoolean(field(fields, 2)))
+                .build();
+    }
+
+    //BufferedReader.readLine과 같지만 MAX_LINE_LENGTH를 넘으면 나머지를 읽지 않고 거절
+    private String readLine(BufferedReader reader, int line) throws IOException, ValidationException {
+        StringBuilder sb = new StringBuilder();
+        int c;
+        while ((c = reader.read()) != -1 && c != '\n') {
+            if (sb.length() >= MAX_LINE_LENGTH) {
+                throw tooLong(line);
+            }
+            sb.append((char) c);
+        }
+        if (c == -1 && sb.length() == 0) {
+            return null;
+        }
+        int last = sb.length() - 1;
+        if (last >= 0 && sb.charAt(last) == '\r') {
+            sb.setLength(last);
+        }
+        return sb.toString();
+    }
+
+    private ValidationException tooLong(int line) {
+        return new ValidationException(line + "번째 줄 : 한 줄은 " + MAX_LINE_LENGTH + "자 이하여야 합니다.");
+    }
+
+    //빈 필드는 null
+    private String field(List<String> fields, int index) {
+        if (index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private void writeRow(Writer writer, TransferFormat format, TodoTransferDTO.Row row) throws IOException {
+        if (format == TransferFormat.NDJSON) {
+            writer.write(rowWriter.writeValueAsString(row));
+            writer.write('\n');
+        } else {
+            writer.write(CsvUtils.toRecord(row.getCategory(), row.getContent(),
+                    row.getComplete() == null ? null : row.getComplete().toString()));
+        }
+    }
+}
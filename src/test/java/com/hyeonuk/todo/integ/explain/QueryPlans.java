@@ -0,0 +1,113 @@
+package com.hyeonuk.todo.integ.explain;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 캡처한 statement마다 EXPLAIN을 실행해서 threshold보다 많은 행을 full scan 하거나 정렬하는 경우를 리턴
+ * - H2 : EXPLAIN ANALYZE의 tableScan / scanCount와 ORDER BY의 "index sorted" 표시 (statement가 한번 더 실행됨)
+ * - MySQL : EXPLAIN의 type=ALL, Extra의 Using filesort와 rows
+ */
+public final class QueryPlans {
+    private static final Pattern COMMENT = Pattern.compile("/\\*\\s*(.*?)\\s*\\*/", Pattern.DOTALL);
+
+    private static final String SCAN_COUNT = "scanCount:";
+
+    private QueryPlans() {
+    }
+
+    public static List<String> violations(Connection connection, List<SqlCaptor.CapturedStatement> statements, long threshold) throws SQLException {
+        String database = connection.getMetaData().getDatabaseProductName();
+        List<String> violations = new ArrayList<>();
+        for (SqlCaptor.CapturedStatement statement : statements) {
+            if (!isExplainable(statement.sql())) {
+                continue;
+            }
+            if (database.equals("H2")) {
+                violations.addAll(h2(connection, statement, threshold));
+            } else if (database.equals("MySQL")) {
+                violations.addAll(mysql(connection, statement, threshold));
+            } else {
+                throw new IllegalStateException("지원하지 않는 db : " + database);
+            }
+        }
+        return violations;
+    }
+
+    //insert와 sequence 조회는 제외
+    private static boolean isExplainable(String sql) {
+        String lower = sql.trim().toLowerCase(Locale.ROOT);
+        return (lower.startsWith("select") && lower.contains(" from "))
+                || lower.startsWith("update")
+                || lower.startsWith("delete");
+    }
+
+    private static List<String> h2(Connection connection, SqlCaptor.CapturedStatement statement, long threshold) throws SQLException {
+        String plan;
+        try (PreparedStatement explain = prepare(connection, "EXPLAIN ANALYZE " + statement.sql(), statement.parameters());
+             ResultSet rs = explain.executeQuery()) {
+            rs.next();
+            plan = rs.getString(1);
+        }
+
+        //table마다 "/* 사용한 index */ ... /* scanCount: n */" 순서로 나옴. 첫번째 table이 정렬 대상
+        List<String> violations = new ArrayList<>();
+        String access = null;
+        long topRows = -1;
+        Matcher matcher = COMMENT.matcher(plan);
+        while (matcher.find()) {
+            String comment = matcher.group(1);
+            if (comment.startsWith(SCAN_COUNT)) {
+                long rows = Long.parseLong(comment.substring(SCAN_COUNT.length()).trim());
+                if (topRows < 0) {
+                    topRows = rows;
+                }
+                if (access != null && access.endsWith(".tableScan") && rows > threshold) {
+                    violations.add("full scan(" + access + ", " + rows + " rows) : " + plan);
+                }
+                access = null;
+            } else if (!comment.equals("index sorted") && !comment.equals("group sorted")) {
+                access = comment;
+            }
+        }
+        if (plan.contains("ORDER BY") && !plan.contains("/* index sorted */") && topRows > threshold) {
+            violations.add("sort(" + topRows + " rows) : " + plan);
+        }
+        return violations;
+    }
+
+    private static List<String> mysql(Connection connection, SqlCaptor.CapturedStatement statement, long threshold) throws SQLException {
+        List<String> violations = new ArrayList<>();
+        try (PreparedStatement explain = prepare(connection, "EXPLAIN " + statement.sql(), statement.parameters());
+             ResultSet rs = explain.executeQuery()) {
+            while (rs.next()) {
+                String table = rs.getString("table");
+                String type = rs.getString("type");
+                long rows = rs.getLong("rows");
+                String extra = rs.getString("Extra");
+                if ("ALL".equals(type) && rows > threshold) {
+                    violations.add("full scan(" + table + ", " + rows + " rows) : " + statement.sql());
+                }
+                if (extra != null && extra.contains("Using filesort") && rows > threshold) {
+                    violations.add("filesort(" + table + ", " + rows + " rows) : " + statement.sql());
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, List<Object> parameters) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < parameters.size(); i++) {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+        return statement;
+    }
+}
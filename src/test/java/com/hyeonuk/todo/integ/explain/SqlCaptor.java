@@ -0,0 +1,100 @@
+package com.hyeonuk.todo.integ.explain;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+//DataSource를 감싸서 start() ~ stop() 사이에 실행된 PreparedStatement의 sql과 바인딩된 파라미터를 기록
+//@Import(SqlCaptor.class)로 등록
+public class SqlCaptor implements BeanPostProcessor {
+    private final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+
+    private volatile boolean capturing;
+
+    public void start() {
+        statements.clear();
+        capturing = true;
+    }
+
+    public List<CapturedStatement> stop() {
+        capturing = false;
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource)) {
+            return bean;
+        }
+        return proxy(bean, publicInterfaces(bean.getClass()), (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            return result instanceof Connection ? connection((Connection) result) : result;
+        });
+    }
+
+    private Connection connection(Connection connection) {
+        return (Connection) proxy(connection, new Class<?>[]{Connection.class}, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement) {
+                return statement((PreparedStatement) result, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement statement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return (PreparedStatement) proxy(statement, new Class<?>[]{PreparedStatement.class}, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (capturing && (args == null || args.length == 0)
+                    && (name.equals("addBatch") || name.startsWith("execute"))) {
+                statements.add(new CapturedStatement(sql, new ArrayList<>(parameters.values())));
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private Object proxy(Object target, Class<?>[] interfaces, Interceptor interceptor) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+            try {
+                return interceptor.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        });
+    }
+
+    private Class<?>[] publicInterfaces(Class<?> type) {
+        List<Class<?>> interfaces = new ArrayList<>();
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            Arrays.stream(c.getInterfaces())
+                    .filter(i -> Modifier.isPublic(i.getModifiers()) && !interfaces.contains(i))
+                    .forEach(interfaces::add);
+        }
+        return interfaces.toArray(Class<?>[]::new);
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    public record CapturedStatement(String sql, List<Object> parameters) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.hyeonuk.todo.integ.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BloomFilterTest {
+    /**
+     * 성공케이스
+     * 1. put한 값은 항상 true v
+     * 2. put하지 않은 값의 false positive 비율이 fpp 근처 v
+     * 3. 예상 개수와 fpp로 bit 수와 hash 수 계산 v
+     * 실패케이스
+     * 1. 예상 개수나 fpp가 범위를 벗어나면 IllegalArgumentException v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. put한 값은 항상 true")
+        public void noFalseNegativeTest() {
+            //given
+            BloomFilter filter = BloomFilter.create(10000, 0.01);
+
+            //when
+            IntStream.range(0, 10000).forEach(i -> filter.put("tester" + i));
+
+            //then
+            assertThat(IntStream.range(0, 10000).allMatch(i -> filter.mightContain("tester" + i))).isTrue();
+        }
+
+        @Test
+        @DisplayName("2. put하지 않은 값의 false positive 비율이 fpp 근처")
+        public void falsePositiveRateTest() {
+            //given
+            BloomFilter filter = BloomFilter.create(10000, 0.01);
+            IntStream.range(0, 10000).forEach(i -> filter.put("tester" + i));
+
+            //when
+            long falsePositives = IntStream.range(0, 100000)
+                    .filter(i -> filter.mightContain("unknown" + i))
+                    .count();
+
+            //then
+            assertThat(falsePositives).isLessThan(2000);
+        }
+
+        @Test
+        @DisplayName("3. 예상 개수와 fpp로 bit 수와 hash 수 계산")
+        public void sizeTest() {
+            //when
+            BloomFilter filter = BloomFilter.create(1000, 0.01);
+
+            //then
+            assertThat(filter.bitSize()).isEqualTo(9586);
+            assertThat(filter.hashCount()).isEqualTo(7);
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 예상 개수나 fpp가 범위를 벗어나면 IllegalArgumentException")
+        public void illegalArgumentTest() {
+            assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+            assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1000, 0));
+            assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1000, 1));
+        }
+    }
+}
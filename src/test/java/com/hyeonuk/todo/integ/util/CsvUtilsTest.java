@@ -0,0 +1,101 @@
+package com.hyeonuk.todo.integ.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvUtilsTest {
+    /**
+     * 성공케이스
+     * 1. 따옴표, 쉼표, 줄바꿈이 포함된 필드를 쓰고 다시 읽음 v
+     * 2. 빈 필드와 null v
+     * 3. CRLF 줄바꿈 v
+     * 4. 마지막 줄에 줄바꿈이 없는 경우 v
+     * 5. 최대 길이 이하의 레코드 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 따옴표, 쉼표, 줄바꿈이 포함된 필드를 쓰고 다시 읽음")
+        public void roundTripTest() throws IOException {
+            String record = CsvUtils.toRecord("일반", "a, \"b\"\nc", "true");
+
+            BufferedReader reader = new BufferedReader(new StringReader(record + record));
+
+            assertThat(CsvUtils.readRecord(reader)).isEqualTo(List.of("일반", "a, \"b\"\nc", "true"));
+            assertThat(CsvUtils.readRecord(reader)).isEqualTo(List.of("일반", "a, \"b\"\nc", "true"));
+            assertThat(CsvUtils.readRecord(reader)).isNull();
+        }
+
+        @Test
+        @DisplayName("2. 빈 필드와 null")
+        public void emptyFieldTest() throws IOException {
+            String record = CsvUtils.toRecord("일반", null, "");
+
+            assertThat(record).isEqualTo("일반,,\n");
+            assertThat(CsvUtils.readRecord(new BufferedReader(new StringReader(record)))).isEqualTo(List.of("일반", "", ""));
+        }
+
+        @Test
+        @DisplayName("3. CRLF 줄바꿈")
+        public void crlfTest() throws IOException {
+            BufferedReader reader = new BufferedReader(new StringReader("a,b\r\nc,d\r\n"));
+
+            assertThat(CsvUtils.readRecord(reader)).isEqualTo(List.of("a", "b"));
+            assertThat(CsvUtils.readRecord(reader)).isEqualTo(List.of("c", "d"));
+            assertThat(CsvUtils.readRecord(reader)).isNull();
+        }
+
+        @Test
+        @DisplayName("4. 마지막 줄에 줄바꿈이 없는 경우")
+        public void noTrailingNewLineTest() throws IOException {
+            BufferedReader reader = new BufferedReader(new StringReader("a,\"b\""));
+
+            assertThat(CsvUtils.readRecord(reader)).isEqualTo(List.of("a", "b"));
+            assertThat(CsvUtils.readRecord(reader)).isNull();
+        }
+
+        @Test
+        @DisplayName("5. 최대 길이 이하의 레코드")
+        public void maxLengthTest() throws IOException {
+            BufferedReader reader = new BufferedReader(new StringReader("abc,d\n"));
+
+            assertThat(CsvUtils.readRecord(reader, 6)).isEqualTo(List.of("abc", "d"));
+            assertThat(CsvUtils.readRecord(reader, 6)).isNull();
+        }
+    }
+
+    /**
+     * 실패케이스
+     * 1. 최대 길이를 넘는 레코드 v
+     * 2. 따옴표가 닫히지 않은 레코드 v
+     */
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 최대 길이를 넘는 레코드")
+        public void tooLongTest() {
+            BufferedReader reader = new BufferedReader(new StringReader("abc,de\n"));
+
+            assertThrows(CsvUtils.RecordTooLongException.class, () -> CsvUtils.readRecord(reader, 6));
+        }
+
+        @Test
+        @DisplayName("2. 따옴표가 닫히지 않은 레코드")
+        public void unclosedQuoteTest() {
+            BufferedReader reader = new BufferedReader(new StringReader("\"abc\n".repeat(10)));
+
+            assertThrows(CsvUtils.RecordTooLongException.class, () -> CsvUtils.readRecord(reader, 20));
+        }
+    }
+}
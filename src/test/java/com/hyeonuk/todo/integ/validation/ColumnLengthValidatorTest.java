@@ -0,0 +1,94 @@
+package com.hyeonuk.todo.integ.validation;
+
+import com.hyeonuk.todo.integ.util.StringUtils;
+import com.hyeonuk.todo.member.data.MEMBER_MAX_LENGTH;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.todo.entity.Category;
+import com.hyeonuk.todo.todo.entity.Todo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnLengthValidatorTest {
+    private Member member(String id, String description) {
+        return Member.builder()
+                .id(id)
+                .email("dummy@gmail.com")
+                .password("password")
+                .name("dummy")
+                .description(description)
+                .build();
+    }
+
+    /**
+     * 성공케이스
+     * 1. 최대 길이의 값 v
+     * 2. null 값은 검사하지 않음 v
+     * 3. 같은 클래스를 반복해서 검사 v
+     * 실패케이스
+     * 1. Member 필드 길이 초과 v
+     * 2. Todo content 길이 초과 v
+     * 3. Category title 길이 초과 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 최대 길이의 값")
+        public void maxLengthTest() {
+            assertDoesNotThrow(() -> {
+                ColumnLengthValidator.validate(member(StringUtils.randomSting(MEMBER_MAX_LENGTH.ID.getValue()),
+                        StringUtils.randomSting(MEMBER_MAX_LENGTH.DESC.getValue())));
+                ColumnLengthValidator.validate(Todo.builder().content(StringUtils.randomSting(200)).build());
+                ColumnLengthValidator.validate(Category.builder().title(StringUtils.randomSting(100)).build());
+            });
+        }
+
+        @Test
+        @DisplayName("2. null 값은 검사하지 않음")
+        public void nullTest() {
+            assertDoesNotThrow(() -> ColumnLengthValidator.validate(member("dummy1", null)));
+        }
+
+        @Test
+        @DisplayName("3. 같은 클래스를 반복해서 검사")
+        public void repeatTest() {
+            assertDoesNotThrow(() -> {
+                for (int i = 0; i < 100; i++) {
+                    ColumnLengthValidator.validate(member("dummy" + i, "description"));
+                }
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. Member 필드 길이 초과")
+        public void memberOverLengthTest() {
+            assertThrows(DataIntegrityViolationException.class, () ->
+                    ColumnLengthValidator.validate(member(StringUtils.randomSting(MEMBER_MAX_LENGTH.ID.getValue() + 1), null)));
+            assertThrows(DataIntegrityViolationException.class, () ->
+                    ColumnLengthValidator.validate(member("dummy1", StringUtils.randomSting(MEMBER_MAX_LENGTH.DESC.getValue() + 1))));
+        }
+
+        @Test
+        @DisplayName("2. Todo content 길이 초과")
+        public void todoOverLengthTest() {
+            assertThrows(DataIntegrityViolationException.class, () ->
+                    ColumnLengthValidator.validate(Todo.builder().content(StringUtils.randomSting(201)).build()));
+        }
+
+        @Test
+        @DisplayName("3. Category title 길이 초과")
+        public void categoryOverLengthTest() {
+            assertThrows(DataIntegrityViolationException.class, () ->
+                    ColumnLengthValidator.validate(Category.builder().title(StringUtils.randomSting(101)).build()));
+        }
+    }
+}
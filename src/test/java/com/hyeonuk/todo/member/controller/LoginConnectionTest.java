@@ -0,0 +1,131 @@
+package com.hyeonuk.todo.member.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyeonuk.todo.member.dto.LoginDTO;
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.service.LoginAttemptService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//로그인 요청이 BCrypt 검사 전에 DB connection을 반납하는지 확인
+//open-in-view가 켜져있으면 회원 조회에 사용한 connection이 응답이 끝날 때까지 요청에 묶여있음
+//테스트 트랜잭션도 connection을 잡고 있으므로 트랜잭션 없이 실행하고 직접 정리함
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoginConnectionTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    private final String dummyId = "tester123";
+    private final String dummyPassword = "Abcdefg123!";
+
+    //BCrypt 검사가 실행되는 동안 사용중인 connection 수
+    private final AtomicInteger activeDuringHash = new AtomicInteger(-1);
+
+    @BeforeEach
+    public void init() throws SQLException {
+        loginAttemptService.clear(dummyId);
+
+        Member member = Member.builder()
+                .id(dummyId)
+                .name("dummyUser")
+                .email("dummy@gmail.com")
+                .password(passwordEncoder.encode(dummyPassword))
+                .build();
+        member.setRoles(new ArrayList<>(List.of(Authority.builder().name("ROLE_USER").build())));
+        memberRepository.save(member);
+
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        doAnswer(invocation -> {
+            activeDuringHash.set(pool.getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), anyString());
+    }
+
+    @AfterEach
+    public void clear() {
+        memberRepository.deleteById(dummyId);
+        loginAttemptService.clear(dummyId);
+    }
+
+    private LoginDTO.Request request(String password) {
+        return LoginDTO.Request.builder()
+                .id(dummyId)
+                .password(password)
+                .build();
+    }
+
+    /**
+     * 성공케이스
+     * 1. 로그인에 성공한 요청은 BCrypt 검사 동안 connection을 잡고 있지 않음 v
+     * 2. 비밀번호가 틀린 요청도 BCrypt 검사 동안 connection을 잡고 있지 않음 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 로그인에 성공한 요청은 BCrypt 검사 동안 connection을 잡고 있지 않음")
+        public void loginTest() throws Exception {
+            //when
+            mvc.perform(post("/auth/login").contentType("application/json;charset=utf-8")
+                            .content(mapper.writeValueAsString(request(dummyPassword))))
+                    .andExpect(status().isOk());
+
+            //then
+            assertThat(activeDuringHash.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("2. 비밀번호가 틀린 요청도 BCrypt 검사 동안 connection을 잡고 있지 않음")
+        public void wrongPasswordTest() throws Exception {
+            //when
+            mvc.perform(post("/auth/login").contentType("application/json;charset=utf-8")
+                            .content(mapper.writeValueAsString(request("Wrong123!!"))))
+                    .andExpect(status().isUnauthorized());
+
+            //then
+            assertThat(activeDuringHash.get()).isZero();
+        }
+    }
+}
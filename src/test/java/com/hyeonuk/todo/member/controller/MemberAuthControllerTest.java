@@ -9,9 +9,11 @@ import com.hyeonuk.todo.integ.dto.ErrorMessageDTO;
 import com.hyeonuk.todo.integ.exception.ValidationException;
 import com.hyeonuk.todo.security.service.JwtProvider;
 import com.hyeonuk.todo.member.dto.LoginDTO;
+import com.hyeonuk.todo.member.dto.RefreshDTO;
 import com.hyeonuk.todo.member.dto.SaveDTO;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.service.LoginAttemptService;
 import org.junit.jupiter.api.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -35,6 +37,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.hamcrest.core.Is.is;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -59,6 +62,9 @@ public class MemberAuthControllerTest {
     @Autowired
     private JwtProvider jwtProvider;
 
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
     /*
     * RestDocs
     * */
@@ -92,6 +98,9 @@ public class MemberAuthControllerTest {
         //임의의 유저를 먼저 가입시켜둠
         @BeforeEach
         public void insertDummyUser() throws Exception {
+            //cache서버의 로그인 실패 기록은 트랜잭션과 함께 rollback되지 않으므로 직접 초기화
+            loginAttemptService.clear(dummyId);
+
             when(emailAuthService.emailAuthCheck(any())).thenReturn(EmailAuthCheckDTO.Response.builder()
                     .result(true)
                     .build());
@@ -137,7 +146,8 @@ public class MemberAuthControllerTest {
                                         fieldWithPath("password").description("비밀번호")
                                 ),
                                 responseFields(
-                                        fieldWithPath("accessToken").description("인증토큰")
+                                        fieldWithPath("accessToken").description("인증토큰"),
+                                        fieldWithPath("refreshToken").description("인증토큰 재발급을 위한 토큰")
                                 ))
                         )
                         .andReturn();
@@ -286,7 +296,7 @@ public class MemberAuthControllerTest {
                         .andExpect(jsonPath("$.status", is(HttpStatus.UNAUTHORIZED.value())));
             }
 
-            @DisplayName("7. 비밀번호를 일정 횟수 틀릴 시 blockedTime update 된 후, 다시 로그인 시도시에 block, 일정 시간이 지난 후 다시 로그인 가능")
+            @DisplayName("7. 비밀번호를 일정 횟수 틀릴 시 block 된 후, 다시 로그인 시도시에 block, 일정 시간이 지난 후 다시 로그인 가능")
             @Test
 //            @Disabled
             public void idBlockException() throws Exception {
@@ -324,19 +334,8 @@ public class MemberAuthControllerTest {
                 assertThat(mapper.readValue(blockResponse.getResponse().getContentAsString(), ErrorMessageDTO.class).getMessage()).isNotEqualTo("잘못된 인증정보 입니다.");
 
                 //일정시간 이후에 로그인은 성공해야함
-                //Thread.sleep을 사용하면 실제 테스트 시간이 길어지기 때문에, 해당 유저의 blockedTime을 3분 빼 준뒤 실행
-                Member member = memberRepository.findById(dummyId).get();
-                Member updated = Member.builder()
-                        .id(member.getId())
-                        .name(member.getName())
-                        .email(member.getEmail())
-                        .password(member.getPassword())
-                        .tryCount(member.getTryCount())
-                        .blockedTime(member.getBlockedTime().minusSeconds(60*3))//3분전에 block된걸로 셋팅
-                        .roles(member.getRoles())
-                        .build();
-
-                memberRepository.save(updated);
+                //Thread.sleep을 사용하면 실제 테스트 시간이 길어지기 때문에, block key가 만료된 것처럼 직접 제거한 뒤 실행
+                loginAttemptService.clear(dummyId);
 
                 mvc.perform(post("/auth/login").contentType("application/json;charset=utf-8").content(stringify))
                         .andExpect(status().isOk())
@@ -1063,4 +1062,196 @@ public class MemberAuthControllerTest {
             }
         }
     }
+
+    /**
+     * 로그아웃
+     * 성공케이스
+     * 1. 로그아웃 후에는 기존 refresh token으로 재발급 불가 v
+     * 2. 로그아웃 직후 다시 로그인한 토큰은 사용 가능 v
+     * 실패케이스
+     * 1. 인증 없이 요청한 경우 401 v
+     */
+    @Nested
+    @DisplayName("logout test")
+    public class LogoutTest {
+        String dummyId = "tester123";
+        String dummyPassword = "Abcdefg123!";
+
+        //임의의 유저를 먼저 가입시켜둠
+        @BeforeEach
+        public void insertDummyUser() throws Exception {
+            loginAttemptService.clear(dummyId);
+
+            when(emailAuthService.emailAuthCheck(any())).thenReturn(EmailAuthCheckDTO.Response.builder()
+                    .result(true)
+                    .build());
+            SaveDTO.Request request = SaveDTO.Request.builder()
+                    .agree(true)
+                    .emailAuthCode("code")
+                    .id(dummyId)
+                    .password(dummyPassword)
+                    .passwordCheck(dummyPassword)
+                    .email("dummy@gmail.com")
+                    .name("dummyUser")
+                    .build();
+
+            mvc.perform(post("/auth/regist").contentType("application/json;charset=utf-8")
+                    .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        private LoginDTO.Response login() throws Exception {
+            LoginDTO.Request request = LoginDTO.Request.builder()
+                    .id(dummyId)
+                    .password(dummyPassword)
+                    .build();
+            MvcResult result = mvc.perform(post("/auth/login").contentType("application/json;charset=utf-8")
+                            .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            return mapper.readValue(result.getResponse().getContentAsString(StandardCharsets.UTF_8), LoginDTO.Response.class);
+        }
+
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 로그아웃 후에는 기존 refresh token으로 재발급 불가")
+            public void logoutTest() throws Exception {
+                //given
+                LoginDTO.Response token = login();
+                mvc.perform(get("/api/todo").header("Authorization", "Bearer " + token.getAccessToken()))
+                        .andExpect(status().isOk());
+
+                //when
+                mvc.perform(post("/auth/logout").header("Authorization", "Bearer " + token.getAccessToken())
+                                .contentType("application/json;charset=utf-8")
+                                .content(mapper.writeValueAsString(new RefreshDTO.Request(token.getRefreshToken()))))
+                        .andExpect(status().isNoContent())
+                        .andDo(document("로그아웃",
+                                preprocessRequest(prettyPrint()),
+                                requestFields(
+                                        fieldWithPath("refreshToken").description("함께 폐기할 refresh token (선택)")
+                                )));
+
+                //then
+                //stateful 모드(기본)의 access token 인증은 무효화 여부를 조회하지 않으므로 만료될 때까지 사용 가능
+                mvc.perform(post("/auth/refresh").contentType("application/json;charset=utf-8")
+                                .content(mapper.writeValueAsString(new RefreshDTO.Request(token.getRefreshToken()))))
+                        .andExpect(status().isUnauthorized());
+            }
+
+            @Test
+            @DisplayName("2. 로그아웃 직후 다시 로그인한 토큰은 사용 가능")
+            public void reloginTest() throws Exception {
+                //given
+                LoginDTO.Response token = login();
+                mvc.perform(post("/auth/logout").header("Authorization", "Bearer " + token.getAccessToken()))
+                        .andExpect(status().isNoContent());
+                Thread.sleep(2);
+
+                //when
+                LoginDTO.Response relogin = login();
+
+                //then
+                mvc.perform(get("/api/todo").header("Authorization", "Bearer " + relogin.getAccessToken()))
+                        .andExpect(status().isOk());
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 인증 없이 요청한 경우 401")
+            public void unauthorizedTest() throws Exception {
+                mvc.perform(post("/auth/logout"))
+                        .andExpect(status().isUnauthorized())
+                        .andExpect(jsonPath("$.status", is(HttpStatus.UNAUTHORIZED.value())));
+            }
+        }
+    }
+
+    /**
+     * 아이디, 이메일 사용 가능 여부
+     * 성공케이스
+     * 1. 가입되지 않은 아이디, 이메일은 사용 가능 v
+     * 2. 가입된 아이디, 이메일은 사용 불가 v
+     * 실패케이스
+     * 1. 형식이 잘못된 아이디 v
+     */
+    @Nested
+    @DisplayName("available test")
+    public class AvailableTest {
+        String availableURL = "/auth/available";
+        String dummyId = "tester123";
+        String dummyEmail = "dummy@gmail.com";
+
+        //임의의 유저를 먼저 가입시켜둠
+        @BeforeEach
+        public void insertDummyUser() throws Exception {
+            when(emailAuthService.emailAuthCheck(any())).thenReturn(EmailAuthCheckDTO.Response.builder()
+                    .result(true)
+                    .build());
+            SaveDTO.Request request = SaveDTO.Request.builder()
+                    .agree(true)
+                    .emailAuthCode("code")
+                    .id(dummyId)
+                    .password("Abcdefg123!")
+                    .passwordCheck("Abcdefg123!")
+                    .email(dummyEmail)
+                    .name("dummyUser")
+                    .build();
+
+            mvc.perform(post("/auth/regist").contentType("application/json;charset=utf-8")
+                    .content(mapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 가입되지 않은 아이디, 이메일은 사용 가능")
+            public void availableTest() throws Exception {
+                mvc.perform(get(availableURL + "/id").param("id", "notExistId123"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.available", is(true)))
+                        .andDo(document("아이디 사용 가능 확인",
+                                preprocessResponse(prettyPrint()),
+                                responseFields(
+                                        fieldWithPath("available").description("사용 가능 여부")
+                                )));
+
+                mvc.perform(get(availableURL + "/email").param("email", "notExist123@gmail.com"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.available", is(true)));
+            }
+
+            @Test
+            @DisplayName("2. 가입된 아이디, 이메일은 사용 불가")
+            public void takenTest() throws Exception {
+                mvc.perform(get(availableURL + "/id").param("id", dummyId))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.available", is(false)));
+
+                mvc.perform(get(availableURL + "/email").param("email", dummyEmail))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.available", is(false)));
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 형식이 잘못된 아이디")
+            public void invalidIdTest() throws Exception {
+                mvc.perform(get(availableURL + "/id").param("id", "id!"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.message", is("아이디는 5~20자의 영문 대소문자, 숫자로 이루어져야 합니다.")))
+                        .andExpect(jsonPath("$.status", is(HttpStatus.BAD_REQUEST.value())));
+            }
+        }
+    }
 }
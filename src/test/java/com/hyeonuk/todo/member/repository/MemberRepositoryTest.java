@@ -568,4 +568,65 @@ class MemberRepositoryTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * findDuplicates
+     * - 성공 테스트
+     * - 아이디만 중복 v
+     * - 이메일만 중복 v
+     * - 아이디와 이메일이 서로 다른 회원과 중복 v
+     * - 실패 테스트
+     * - 중복이 없으면 빈 목록 v
+     */
+    @Nested
+    @DisplayName("findDuplicates")
+    public class FindDuplicatesTest {
+        @Nested
+        @DisplayName("success")
+        public class Success{
+            @Test
+            @DisplayName("아이디만 중복")
+            public void idDuplicatedTest(){
+                Member target = memberList.get(0);
+
+                List<Object[]> result = memberRepository.findDuplicates(target.getId(), "notExistUser@gmail.com");
+
+                assertThat(result.size()).isEqualTo(1);
+                assertThat(result.get(0)).containsExactly(true, false);
+            }
+
+            @Test
+            @DisplayName("이메일만 중복")
+            public void emailDuplicatedTest(){
+                Member target = memberList.get(0);
+
+                List<Object[]> result = memberRepository.findDuplicates("notExistUser", target.getEmail());
+
+                assertThat(result.size()).isEqualTo(1);
+                assertThat(result.get(0)).containsExactly(false, true);
+            }
+
+            @Test
+            @DisplayName("아이디와 이메일이 서로 다른 회원과 중복")
+            public void bothDuplicatedTest(){
+                List<Object[]> result = memberRepository.findDuplicates(memberList.get(0).getId(), memberList.get(1).getEmail());
+
+                assertThat(result.size()).isEqualTo(2);
+                assertThat(result.stream().anyMatch(row -> (Boolean) row[0])).isTrue();
+                assertThat(result.stream().anyMatch(row -> (Boolean) row[1])).isTrue();
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail{
+            @Test
+            @DisplayName("중복이 없으면 빈 목록")
+            public void notDuplicatedTest(){
+                List<Object[]> result = memberRepository.findDuplicates("notExistUser", "notExistUser@gmail.com");
+
+                assertThat(result.isEmpty()).isTrue();
+            }
+        }
+    }
+}
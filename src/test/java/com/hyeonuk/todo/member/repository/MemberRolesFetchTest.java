@@ -0,0 +1,160 @@
+package com.hyeonuk.todo.member.repository;
+
+import com.hyeonuk.todo.integ.explain.SqlCaptor;
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//회원 조회 시 권한(authority) 테이블을 읽는 쿼리 수 확인
+//권한이 필요 없는 조회(중복 검사, 소유자 확인)는 member 테이블만 읽어야 함
+@DataJpaTest
+@Import(SqlCaptor.class)
+class MemberRolesFetchTest {
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SqlCaptor sqlCaptor;
+
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+
+    @BeforeEach
+    public void init() {
+        Member saved = Member.builder()
+                .id("tester1")
+                .name("tester")
+                .email("tester1@gmail.com")
+                .password("1111")
+                .build();
+        saved.setRoles(new ArrayList<>(List.of(
+                Authority.builder().name("ROLE_USER").build(),
+                Authority.builder().name("ROLE_ADMIN").build())));
+        member = memberRepository.save(saved);
+
+        em.flush();
+        em.clear();
+    }
+
+    private List<SqlCaptor.CapturedStatement> capture(Executable query) throws Throwable {
+        sqlCaptor.start();
+        try {
+            query.execute();
+            return sqlCaptor.stop();
+        } catch (Throwable e) {
+            sqlCaptor.stop();
+            throw e;
+        }
+    }
+
+    private long authorityStatements(List<SqlCaptor.CapturedStatement> statements) {
+        return statements.stream()
+                .filter(s -> s.sql().toLowerCase().contains("authority"))
+                .count();
+    }
+
+    /**
+     * 성공케이스
+     * 1. findById는 권한을 조회하지 않음 v
+     * 2. findByEmail은 권한을 조회하지 않음 v
+     * 3. findWithRolesById는 회원과 권한을 쿼리 한번으로 조회 v
+     * 4. 권한에 접근할 때만 권한을 조회 v
+     * 실패케이스
+     * 1. 없는 회원은 쿼리 한번으로 끝남 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. findById는 권한을 조회하지 않음")
+        public void findByIdTest() throws Throwable {
+            //when
+            AtomicReference<Member> found = new AtomicReference<>();
+            List<SqlCaptor.CapturedStatement> statements = capture(() ->
+                    found.set(memberRepository.findById(member.getId()).orElseThrow()));
+
+            //then
+            assertThat(statements).hasSize(1);
+            assertThat(authorityStatements(statements)).isZero();
+            assertThat(Hibernate.isInitialized(found.get().getRoles())).isFalse();
+        }
+
+        @Test
+        @DisplayName("2. findByEmail은 권한을 조회하지 않음")
+        public void findByEmailTest() throws Throwable {
+            //when
+            List<SqlCaptor.CapturedStatement> statements = capture(() ->
+                    memberRepository.findByEmail(member.getEmail()).orElseThrow());
+
+            //then
+            assertThat(statements).hasSize(1);
+            assertThat(authorityStatements(statements)).isZero();
+        }
+
+        @Test
+        @DisplayName("3. findWithRolesById는 회원과 권한을 쿼리 한번으로 조회")
+        public void findWithRolesTest() throws Throwable {
+            //when
+            AtomicReference<Member> found = new AtomicReference<>();
+            List<SqlCaptor.CapturedStatement> statements = capture(() ->
+                    found.set(memberRepository.findWithRolesById(member.getId()).orElseThrow()));
+
+            //then
+            assertThat(statements).hasSize(1);
+            assertThat(authorityStatements(statements)).isEqualTo(1);
+            assertThat(Hibernate.isInitialized(found.get().getRoles())).isTrue();
+            assertThat(found.get().getRoles()).extracting(Authority::getName)
+                    .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        }
+
+        @Test
+        @DisplayName("4. 권한에 접근할 때만 권한을 조회")
+        public void lazyRolesTest() throws Throwable {
+            //given
+            Member found = memberRepository.findById(member.getId()).orElseThrow();
+
+            //when
+            List<SqlCaptor.CapturedStatement> statements = capture(() -> found.getRoles().size());
+
+            //then
+            assertThat(statements).hasSize(1);
+            assertThat(authorityStatements(statements)).isEqualTo(1);
+            assertThat(found.getRoles()).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 없는 회원은 쿼리 한번으로 끝남")
+        public void notFoundTest() throws Throwable {
+            //when
+            AtomicReference<Optional<Member>> found = new AtomicReference<>();
+            List<SqlCaptor.CapturedStatement> statements = capture(() ->
+                    found.set(memberRepository.findWithRolesById("unknown")));
+
+            //then
+            assertThat(statements).hasSize(1);
+            assertThat(found.get()).isEmpty();
+        }
+    }
+}
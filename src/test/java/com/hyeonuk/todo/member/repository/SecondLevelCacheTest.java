@@ -0,0 +1,201 @@
+package com.hyeonuk.todo.member.repository;
+
+import com.hyeonuk.todo.integ.explain.SqlCaptor;
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
+import com.hyeonuk.todo.security.service.JpaUserDetailsService;
+import com.hyeonuk.todo.security.service.JwtFailureRecorder;
+import com.hyeonuk.todo.security.service.JwtProvider;
+import com.hyeonuk.todo.security.service.JwtRevocationService;
+import com.hyeonuk.todo.security.service.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+//hibernate 2차 cache 적용 확인
+//인증 요청은 JwtProvider -> JpaUserDetailsService -> MemberSnapshotCache 순서로 실제 경로를 그대로 거침
+//서버 내 cache(검증된 토큰, snapshot)는 ttl을 0으로 두어 매 요청이 만료된 뒤 들어온 요청처럼 DB 조회까지 내려가게 함
+//요청마다 새 트랜잭션(세션)에서 조회해야 2차 cache를 사용하므로 테스트 트랜잭션 없이 실행하고 직접 정리함
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(SqlCaptor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SqlCaptor sqlCaptor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private JwtProvider jwtProvider;
+
+    private Member member;
+
+    @BeforeEach
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        //무효화된 토큰이 없는 cache서버
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MemberSnapshotCache memberSnapshotCache = new MemberSnapshotCache(100, 0, false, memberRepository, redisTemplate, meterRegistry);
+        jwtProvider = new JwtProvider("test-secret-key-test-secret-key-test-secret-key", 60 * 1000, false,
+                new JpaUserDetailsService(memberSnapshotCache), new JwtRevocationService(redisTemplate),
+                new VerifiedTokenCache(100, 0, meterRegistry), new JwtFailureRecorder(meterRegistry, 10000));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Member saved = Member.builder()
+                    .id("tester1")
+                    .name("tester")
+                    .email("tester1@gmail.com")
+                    .password("1111")
+                    .build();
+            saved.setRoles(new ArrayList<>(List.of(Authority.builder().name("ROLE_USER").build())));
+            member = memberRepository.save(saved);
+        });
+
+        //insert된 엔티티도 commit 후 cache에 들어가므로 첫 조회가 DB에서 읽도록 비움
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    public void clear() {
+        transactionTemplate.executeWithoutResult(status -> memberRepository.deleteAll());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    //인증된 요청 한번. refresh 후처럼 새로 발급된 access token으로 인증함
+    //없는 회원이면 인증 필터와 같이 인증 정보 없이 진행
+    private Authentication authenticate(String memberId) {
+        try {
+            return jwtProvider.authenticate(jwtProvider.createAccessToken(memberId, List.of("ROLE_USER")));
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
+    private List<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+
+    //요청 하나를 실행하고 나간 sql 수를 리턴
+    private int statementCount(Runnable request) {
+        sqlCaptor.start();
+        try {
+            request.run();
+            return sqlCaptor.stop().size();
+        } catch (RuntimeException e) {
+            sqlCaptor.stop();
+            throw e;
+        }
+    }
+
+    /**
+     * 성공케이스
+     * 1. 같은 회원의 인증 요청이 반복되면 두번째부터 쿼리 없이 조회 v
+     * 2. 회원의 권한이 변경되면 변경된 권한으로 인증 v
+     * 실패케이스
+     * 1. 없는 회원은 cache되지 않고 매번 DB를 조회 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 같은 회원의 인증 요청이 반복되면 두번째부터 쿼리 없이 조회")
+        public void memberHitTest() {
+            //given
+            AtomicReference<Authentication> authentication = new AtomicReference<>();
+            int first = statementCount(() -> authenticate(member.getId()));
+
+            //when
+            int second = statementCount(() -> authentication.set(authenticate(member.getId())));
+            int third = statementCount(() -> authenticate(member.getId()));
+
+            //then
+            assertThat(first).isPositive();
+            assertThat(second).isZero();
+            assertThat(third).isZero();
+            assertThat(authentication.get().getName()).isEqualTo(member.getId());
+            assertThat(authorities(authentication.get())).containsExactly("ROLE_USER");
+            assertThat(statistics.getDomainDataRegionStatistics("member").getHitCount()).isEqualTo(2);
+            assertThat(statistics.getDomainDataRegionStatistics("member.roles").getHitCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("2. 회원의 권한이 변경되면 변경된 권한으로 인증")
+        public void memberUpdateTest() {
+            //given
+            authenticate(member.getId());
+
+            //when
+            transactionTemplate.executeWithoutResult(status -> {
+                Member found = memberRepository.findById(member.getId()).orElseThrow();
+                found.getRoles().add(Authority.builder().name("ROLE_ADMIN").member(found).build());
+            });
+
+            //then
+            assertThat(authorities(authenticate(member.getId()))).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 없는 회원은 cache되지 않고 매번 DB를 조회")
+        public void notFoundTest() {
+            //when
+            int first = statementCount(() -> assertThat(authenticate("unknown")).isNull());
+            int second = statementCount(() -> assertThat(authenticate("unknown")).isNull());
+
+            //then
+            assertThat(first).isPositive();
+            assertThat(second).isPositive();
+        }
+    }
+}
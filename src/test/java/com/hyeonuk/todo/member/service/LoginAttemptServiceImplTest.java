@@ -0,0 +1,143 @@
+package com.hyeonuk.todo.member.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptServiceImplTest {
+    @InjectMocks
+    private LoginAttemptServiceImpl loginAttemptService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    //redis 서버 대신 사용할 저장소
+    private final Map<String, String> store = new HashMap<>();
+
+    private final String memberId = "tester1";
+
+    @BeforeEach
+    public void mockSetting() {
+        ReflectionTestUtils.setField(loginAttemptService, "maxTry", 3);
+        ReflectionTestUtils.setField(loginAttemptService, "blockSeconds", 180L);
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        //실패 횟수 증가 script
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(1, List.class).get(0).toString();
+            long count = Long.parseLong(store.getOrDefault(key, "0")) + 1;
+            store.put(key, Long.toString(count));
+            return count;
+        });
+        lenient().when(valueOperations.get(anyString())).thenAnswer(invocation ->
+                store.get(invocation.getArgument(0, String.class)));
+        lenient().doAnswer(invocation -> {
+            store.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        lenient().when(redisTemplate.delete(anyString())).thenAnswer(invocation ->
+                store.remove(invocation.getArgument(0, String.class)) != null);
+        lenient().when(redisTemplate.delete(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(key -> store.remove(key) != null).count();
+        });
+    }
+
+    /**
+     * 성공케이스
+     * 1. 3회 실패하면 block v
+     * 2. 로그인에 성공하면 실패 횟수 초기화 v
+     * 3. clear하면 block 해제 v
+     * 4. 실패 횟수 증가와 만료시간 설정을 한번의 script로 실행 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 3회 실패하면 block")
+        public void blockTest() {
+            //when
+            loginAttemptService.loginFail(memberId);
+            loginAttemptService.loginFail(memberId);
+            assertThat(loginAttemptService.blockedUntil(memberId)).isEmpty();
+            loginAttemptService.loginFail(memberId);
+
+            //then
+            assertThat(loginAttemptService.blockedUntil(memberId)).isPresent();
+            assertThat(loginAttemptService.blockedUntil(memberId).get()).isAfter(LocalDateTime.now());
+            assertThat(store).doesNotContainKey("login:fail:".concat(memberId));
+        }
+
+        @Test
+        @DisplayName("2. 로그인에 성공하면 실패 횟수 초기화")
+        public void successResetTest() {
+            //given
+            loginAttemptService.loginFail(memberId);
+            loginAttemptService.loginFail(memberId);
+
+            //when
+            loginAttemptService.loginSuccess(memberId);
+            loginAttemptService.loginFail(memberId);
+
+            //then
+            assertThat(loginAttemptService.blockedUntil(memberId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("3. clear하면 block 해제")
+        public void clearTest() {
+            //given
+            for (int i = 0; i < 3; i++) {
+                loginAttemptService.loginFail(memberId);
+            }
+
+            //when
+            loginAttemptService.clear(memberId);
+
+            //then
+            assertThat(loginAttemptService.blockedUntil(memberId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("4. 실패 횟수 증가와 만료시간 설정을 한번의 script로 실행")
+        public void atomicIncrementTest() {
+            //when
+            loginAttemptService.loginFail(memberId);
+
+            //then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("login:fail:".concat(memberId))), eq("180000"));
+            verify(valueOperations, never()).increment(anyString());
+            verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+        }
+    }
+}
@@ -8,8 +8,13 @@ import com.hyeonuk.todo.integ.exception.AlreadyExistException;
 import com.hyeonuk.todo.member.entity.Authority;
 import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
 import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.security.exception.PasswordHashException;
 import com.hyeonuk.todo.security.service.JwtProvider;
+import com.hyeonuk.todo.security.service.JwtRevocationService;
+import com.hyeonuk.todo.security.service.PasswordHasher;
+import com.hyeonuk.todo.security.service.RefreshTokenService;
 import com.hyeonuk.todo.member.dto.LoginDTO;
+import com.hyeonuk.todo.member.dto.RefreshDTO;
 import com.hyeonuk.todo.member.dto.SaveDTO;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.member.exception.LoginException;
@@ -39,6 +44,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,13 +68,33 @@ public class MemberAuthServiceTests {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
+    @Mock
+    private MemberSnapshotCache memberSnapshotCache;
+
+    @Mock
+    private TakenMemberFilter takenMemberFilter;
+
+    @Mock
+    private JwtRevocationService jwtRevocationService;
+
     private List<Member> memberList = new ArrayList<>();
     private Map<String,List<Category>> categoryList = new HashMap<>();
     private Map<String,String> emailAuthCode = new HashMap<>();//이메일 인증번호를 저장할 변수
     private String rightPassword = "Abcdefg123!";
+    private Map<String,Integer> loginFailCount = new HashMap<>();//cache서버 대신 로그인 실패 횟수를 저장할 변수
+    private Map<String,LocalDateTime> blockedUntil = new HashMap<>();//cache서버 대신 block 시간을 저장할 변수
 
     @BeforeEach
-    public void mockSetting() throws EmailAuthException{
+    public void mockSetting() throws EmailAuthException, PasswordHashException {
         //jwt provider
         //토큰은 id.roles.date 형식으로 이어붙인 임시토큰으로 발급
         lenient().when(jwtProvider.createToken(anyString(),any(List.class))).thenAnswer(invocation -> {
@@ -92,6 +120,32 @@ public class MemberAuthServiceTests {
         });
 
 
+        //refreshTokenService
+        lenient().when(refreshTokenService.issue(anyString(),any(List.class))).thenAnswer(invocation -> {
+            String id = invocation.getArgument(0);
+            return "refresh_".concat(id);
+        });
+
+        //loginAttemptService
+        //3회 실패시 3분동안 block
+        lenient().when(loginAttemptService.blockedUntil(anyString())).thenAnswer(invocation -> {
+            String id = invocation.getArgument(0);
+            return Optional.ofNullable(blockedUntil.get(id))
+                    .filter(time -> time.isAfter(LocalDateTime.now()));
+        });
+        lenient().doAnswer(invocation -> {
+            String id = invocation.getArgument(0);
+            if (loginFailCount.merge(id, 1, Integer::sum) >= 3) {
+                loginFailCount.remove(id);
+                blockedUntil.put(id, LocalDateTime.now().plusSeconds(3 * 60));
+            }
+            return null;
+        }).when(loginAttemptService).loginFail(anyString());
+        lenient().doAnswer(invocation -> {
+            loginFailCount.remove(invocation.getArgument(0, String.class));
+            return null;
+        }).when(loginAttemptService).loginSuccess(anyString());
+
         //emailAuthService
         lenient().when(emailAuthService.emailAuthCheck(any(EmailAuthCheckDTO.Request.class))).thenAnswer(invocation -> {
             EmailAuthCheckDTO.Request request = invocation.getArgument(0,EmailAuthCheckDTO.Request.class);
@@ -128,6 +182,12 @@ public class MemberAuthServiceTests {
                     .filter(mem->mem.getId().equals(id))
                     .findAny();
         });
+        lenient().when(memberRepository.findWithRolesById(anyString())).thenAnswer(invocation->{
+            String id = invocation.getArgument(0);
+            return memberList.stream()
+                    .filter(mem->mem.getId().equals(id))
+                    .findAny();
+        });
         lenient().when(memberRepository.findByEmail(anyString())).thenAnswer(invocation -> {
             String email = invocation.getArgument(0);
 
@@ -136,6 +196,26 @@ public class MemberAuthServiceTests {
                     .findAny();
         });
 
+        lenient().when(memberRepository.findDuplicates(anyString(), anyString())).thenAnswer(invocation -> {
+            String id = invocation.getArgument(0);
+            String email = invocation.getArgument(1);
+
+            return memberList.stream()
+                    .filter(mem -> mem.getId().equals(id) || mem.getEmail().equals(email))
+                    .map(mem -> new Object[]{mem.getId().equals(id), mem.getEmail().equals(email)})
+                    .collect(Collectors.toList());
+        });
+        lenient().when(memberRepository.existsById(anyString())).thenAnswer(invocation ->
+                memberList.stream().anyMatch(mem -> mem.getId().equals(invocation.getArgument(0))));
+        lenient().when(memberRepository.existsByEmail(anyString())).thenAnswer(invocation ->
+                memberList.stream().anyMatch(mem -> mem.getEmail().equals(invocation.getArgument(0))));
+
+        //takenMemberFilter 셋팅. false positive 없이 가입된 값만 true
+        lenient().when(takenMemberFilter.mightContainId(anyString())).thenAnswer(invocation ->
+                memberList.stream().anyMatch(mem -> mem.getId().equals(invocation.getArgument(0))));
+        lenient().when(takenMemberFilter.mightContainEmail(anyString())).thenAnswer(invocation ->
+                memberList.stream().anyMatch(mem -> mem.getEmail().equals(invocation.getArgument(0))));
+
         //categoryRepository 셋팅
         lenient().doAnswer(invocation -> {
             Category category = invocation.getArgument(0,Category.class);
@@ -163,6 +243,12 @@ public class MemberAuthServiceTests {
 
             return  sb.reverse().toString().equals(encoded);
         });
+
+        //passwordHasher는 별도 pool을 사용하지 않고 passwordEncoder에 그대로 위임
+        lenient().when(passwordHasher.encode(anyString())).thenAnswer(invocation ->
+                passwordEncoder.encode(invocation.getArgument(0)));
+        lenient().when(passwordHasher.matches(anyString(),anyString())).thenAnswer(invocation ->
+                passwordEncoder.matches(invocation.getArgument(0), invocation.getArgument(1)));
     }
     @BeforeEach
     public void init(){
@@ -181,6 +267,7 @@ public class MemberAuthServiceTests {
      * 성공 케이스
      * - 로그인 성공 케이스 v
      * - 아이디 끝에 공백이 들어간 경우 -> 성공으로 간주 v
+     * - 로그인 성공 시 변경된 값이 없으면 저장하지 않음 v
      * 실패 케이스
      * - 아이디 공백 v
      * - 아이디 null v
@@ -218,6 +305,20 @@ public class MemberAuthServiceTests {
                         () -> assertThat(jwtProvider.getId(user.getAccessToken())).isEqualTo(dummy.getId()));
             }
 
+            @Test
+            @DisplayName("로그인 성공 시 변경된 값이 없으면 저장하지 않음")
+            public void loginWithoutWriteTest() throws ValidationException, UserInfoNotFoundException, LoginException {
+                LoginDTO.Request request = LoginDTO.Request.builder()
+                        .id(dummy.getId())
+                        .password(rightPassword)
+                        .build();
+
+                memberAuthService.login(request);
+
+                verify(memberRepository, never()).save(any(Member.class));
+                verify(memberSnapshotCache, never()).invalidate(anyString());
+            }
+
             @Test
             @DisplayName("아이디 끝에 공백이 들어간 경우 -> 성공으로 간주")
             public void loginWithSpaceTest() throws Exception {
@@ -306,7 +407,7 @@ public class MemberAuthServiceTests {
             @Test
             @DisplayName("비밀번호 불일치 테스트")
             public void passwordNotMatchTest() {
-                int beforeTryCount = dummy.getTryCount();
+                int beforeTryCount = loginFailCount.getOrDefault(dummy.getId(), 0);
                 LoginDTO.Request request = LoginDTO.Request.builder()
                         .id(dummy.getId())
                         .password("notExistPassword")
@@ -316,14 +417,13 @@ public class MemberAuthServiceTests {
                     LoginDTO.Response user = memberAuthService.login(request);
                 }).getMessage();
                 assertThat(message).isEqualTo("잘못된 인증정보 입니다.");
-                dummy = memberRepository.findById(dummy.getId()).get();
-                assertThat(dummy.getTryCount()).isEqualTo(beforeTryCount + 1);
+                assertThat(loginFailCount.get(dummy.getId())).isEqualTo(beforeTryCount + 1);
             }
 
             @Test
             @DisplayName("로그인 시도 3회시 block, block시간이 지난 후 로그인 가능")
             public void memberBlockTest() throws ValidationException, UserInfoNotFoundException, LoginException {
-                int beforeTryCount = dummy.getTryCount();
+                int beforeTryCount = loginFailCount.getOrDefault(dummy.getId(), 0);
                 String rightPass = dummy.getPassword();
                 LoginDTO.Request request = LoginDTO.Request.builder()
                         .id(dummy.getId())
@@ -335,12 +435,11 @@ public class MemberAuthServiceTests {
                         LoginDTO.Response user = memberAuthService.login(request);
                     }).getMessage();
                     assertThat(message).isEqualTo("잘못된 인증정보 입니다.");
-                    Member updated = memberRepository.findById(dummy.getId()).get();
                     if (i != 3) {
-                        assertThat(updated.getTryCount()).isEqualTo(beforeTryCount + i);
+                        assertThat(loginFailCount.get(dummy.getId())).isEqualTo(beforeTryCount + i);
                     } else {
-                        assertThat(updated.getTryCount()).isEqualTo(0);
-                        assertThat(updated.getBlockedTime()).isNotNull();
+                        assertThat(loginFailCount.get(dummy.getId())).isNull();
+                        assertThat(blockedUntil.get(dummy.getId())).isNotNull();
                     }
                 }
 
@@ -357,19 +456,7 @@ public class MemberAuthServiceTests {
 
                 //시간이 지나면 로그인 가능.
                 //해당 유저의 block시간을 조정함
-                Member updated = Member.builder()
-                        .id(dummy.getId())
-                        .name(dummy.getName())
-                        .email(dummy.getEmail())
-                        .password(dummy.getPassword())
-                        .tryCount(dummy.getTryCount())
-                        .blockedTime(LocalDateTime.now())//3분전에 block된걸로 셋팅
-                        .roles(dummy.getRoles())
-                        .build();
-
-                memberRepository.save(updated);
-
-                Optional<Member> byId = memberRepository.findById(updated.getId());
+                blockedUntil.put(dummy.getId(), LocalDateTime.now());//block 시간이 끝난걸로 셋팅
 
                 LoginDTO.Response response = memberAuthService.login(rightRequest);
                 assertThat(response.getAccessToken()).isNotNull();
@@ -776,4 +863,121 @@ public class MemberAuthServiceTests {
             }
         }
     }
+
+    /**
+     * 성공케이스
+     * 1. filter에 없는 아이디는 DB 조회 없이 사용 가능 v
+     * 2. filter가 잘못 있다고 해도 DB에 없으면 사용 가능 v
+     * 3. 가입된 아이디, 이메일은 사용 불가 v
+     * 4. 가입 후에는 filter에 추가 v
+     * 실패케이스
+     * 1. 아이디 형식이 잘못된 경우 v
+     * 2. 이메일 형식이 잘못된 경우 v
+     */
+    @Nested
+    @DisplayName("available")
+    public class AvailableTest {
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. filter에 없는 아이디는 DB 조회 없이 사용 가능")
+            public void notInFilterTest() throws ValidationException {
+                assertThat(memberAuthService.isIdAvailable("notExistId123")).isTrue();
+                assertThat(memberAuthService.isEmailAvailable("notExistEmail123@gmail.com")).isTrue();
+                verify(memberRepository, never()).existsById(anyString());
+                verify(memberRepository, never()).existsByEmail(anyString());
+            }
+
+            @Test
+            @DisplayName("2. filter가 잘못 있다고 해도 DB에 없으면 사용 가능")
+            public void falsePositiveTest() throws ValidationException {
+                when(takenMemberFilter.mightContainId("notExistId123")).thenReturn(true);
+
+                assertThat(memberAuthService.isIdAvailable("notExistId123")).isTrue();
+                verify(memberRepository).existsById("notExistId123");
+            }
+
+            @Test
+            @DisplayName("3. 가입된 아이디, 이메일은 사용 불가")
+            public void takenTest() throws ValidationException {
+                Member member = memberList.get(0);
+
+                assertThat(memberAuthService.isIdAvailable(member.getId())).isFalse();
+                assertThat(memberAuthService.isEmailAvailable(member.getEmail())).isFalse();
+            }
+
+            @Test
+            @DisplayName("4. 가입 후에는 filter에 추가")
+            public void putAfterSaveTest() throws SaveException, ValidationException, AlreadyExistException {
+                emailAuthCode.put("notExistEmail123@gmail.com","authCode");
+                memberAuthService.save(SaveDTO.Request.builder()
+                        .id("notExistId123")
+                        .name("notExistName")
+                        .email("notExistEmail123@gmail.com")
+                        .password("Abcdefg123!")
+                        .passwordCheck("Abcdefg123!")
+                        .agree(true)
+                        .emailAuthCode("authCode")
+                        .build());
+
+                verify(takenMemberFilter).put("notExistId123", "notExistEmail123@gmail.com");
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 아이디 형식이 잘못된 경우")
+            public void invalidIdTest() {
+                String message = assertThrows(ValidationException.class, () -> {
+                    memberAuthService.isIdAvailable("id!");
+                }).getMessage();
+                assertThat(message).isEqualTo("아이디는 5~20자의 영문 대소문자, 숫자로 이루어져야 합니다.");
+                verify(takenMemberFilter, never()).mightContainId(anyString());
+            }
+
+            @Test
+            @DisplayName("2. 이메일 형식이 잘못된 경우")
+            public void invalidEmailTest() {
+                String message = assertThrows(ValidationException.class, () -> {
+                    memberAuthService.isEmailAvailable("notEmail");
+                }).getMessage();
+                assertThat(message).isEqualTo("유효한 이메일 형식이 아닙니다.");
+            }
+        }
+    }
+
+    /**
+     * 성공케이스
+     * 1. 발급된 access token을 모두 무효화하고 refresh token을 폐기 v
+     * 2. refresh token 없이 요청해도 access token은 무효화 v
+     */
+    @Nested
+    @DisplayName("logout")
+    public class LogoutTest {
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 발급된 access token을 모두 무효화하고 refresh token을 폐기")
+            public void logoutTest() {
+                memberAuthService.logout("tester1", new RefreshDTO.Request("refresh_tester1"));
+
+                verify(jwtRevocationService).revokeAll("tester1");
+                verify(refreshTokenService).remove("refresh_tester1");
+            }
+
+            @Test
+            @DisplayName("2. refresh token 없이 요청해도 access token은 무효화")
+            public void withoutRefreshTokenTest() {
+                memberAuthService.logout("tester1", null);
+                memberAuthService.logout("tester1", new RefreshDTO.Request(" "));
+
+                verify(jwtRevocationService, times(2)).revokeAll("tester1");
+                verify(refreshTokenService, never()).remove(anyString());
+            }
+        }
+    }
 }
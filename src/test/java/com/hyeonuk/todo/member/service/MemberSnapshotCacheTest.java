@@ -0,0 +1,219 @@
+package com.hyeonuk.todo.member.service;
+
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSnapshotCacheTest {
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    //redis 서버 대신 사용할 저장소
+    private final Map<String, String> store = new HashMap<>();
+
+    private Member member;
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        member = Member.builder()
+                .id("tester1")
+                .name("tester")
+                .email("tester1@gmail.com")
+                .password("1111")
+                .build();
+        member.setRoles(new ArrayList<>(List.of(Authority.builder().name("ROLE_USER").build())));
+
+        lenient().when(memberRepository.findCachedWithRolesById(anyString())).thenAnswer(invocation ->
+                member.getId().equals(invocation.getArgument(0)) ? Optional.of(member) : Optional.empty());
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get(anyString())).thenAnswer(invocation ->
+                store.get(invocation.getArgument(0, String.class)));
+        lenient().doAnswer(invocation -> {
+            store.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        lenient().when(redisTemplate.delete(anyString())).thenAnswer(invocation ->
+                store.remove(invocation.getArgument(0, String.class)) != null);
+    }
+
+    private MemberSnapshotCache cache(boolean redis) {
+        return new MemberSnapshotCache(100, 60 * 1000, redis, memberRepository, redisTemplate, meterRegistry);
+    }
+
+    /**
+     * 성공케이스
+     * 1. 같은 회원을 두번 조회하면 DB는 한번만 조회 v
+     * 2. invalidate 후에는 DB를 다시 조회 v
+     * 3. 1차 cache에 없으면 2차 cache(redis)에서 조회 v
+     * 4. hit ratio metric 노출 v
+     * 5. 트랜잭션 중이면 commit 후에 1차, 2차 cache를 비움 v
+     * 실패케이스
+     * 1. 없는 회원은 cache하지 않음 v
+     * 2. redis 오류 시 DB에서 조회 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 같은 회원을 두번 조회하면 DB는 한번만 조회")
+        public void hitTest() {
+            //given
+            MemberSnapshotCache memberSnapshotCache = cache(false);
+
+            //when
+            MemberSnapshotCache.MemberSnapshot first = memberSnapshotCache.get("tester1").orElseThrow();
+            MemberSnapshotCache.MemberSnapshot second = memberSnapshotCache.get("tester1").orElseThrow();
+
+            //then
+            assertThat(second).isEqualTo(first);
+            assertThat(first.roles()).containsExactly("ROLE_USER");
+            verify(memberRepository, times(1)).findCachedWithRolesById("tester1");
+        }
+
+        @Test
+        @DisplayName("2. invalidate 후에는 DB를 다시 조회")
+        public void invalidateTest() {
+            //given
+            MemberSnapshotCache memberSnapshotCache = cache(false);
+            memberSnapshotCache.get("tester1");
+
+            //when
+            member.getRoles().add(Authority.builder().name("ROLE_ADMIN").member(member).build());
+            memberSnapshotCache.invalidate("tester1");
+
+            //then
+            assertThat(memberSnapshotCache.get("tester1").orElseThrow().roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+            verify(memberRepository, times(2)).findCachedWithRolesById("tester1");
+        }
+
+        @Test
+        @DisplayName("3. 1차 cache에 없으면 2차 cache(redis)에서 조회")
+        public void redisHitTest() {
+            //given
+            cache(true).get("tester1");
+
+            //when
+            //다른 서버의 1차 cache
+            MemberSnapshotCache.MemberSnapshot snapshot = cache(true).get("tester1").orElseThrow();
+
+            //then
+            assertThat(snapshot.roles()).containsExactly("ROLE_USER");
+            verify(memberRepository, times(1)).findCachedWithRolesById("tester1");
+            assertThat(meterRegistry.get("member.snapshot.redis").tag("result", "hit").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("4. hit ratio metric 노출")
+        public void metricTest() {
+            //given
+            MemberSnapshotCache memberSnapshotCache = cache(false);
+
+            //when
+            memberSnapshotCache.get("tester1");
+            memberSnapshotCache.get("tester1");
+
+            //then
+            assertThat(memberSnapshotCache.stats().hitCount()).isEqualTo(1);
+            assertThat(meterRegistry.get("member.snapshot.hit.ratio").gauge().value()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("5. 트랜잭션 중이면 commit 후에 1차, 2차 cache를 비움")
+        public void afterCommitTest() {
+            //given
+            MemberSnapshotCache memberSnapshotCache = cache(true);
+            memberSnapshotCache.get("tester1");
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                //when
+                memberSnapshotCache.invalidate("tester1");
+
+                //then
+                assertThat(store).containsKey("member:snapshot:tester1");
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                assertThat(store).doesNotContainKey("member:snapshot:tester1");
+                memberSnapshotCache.get("tester1");
+                verify(memberRepository, times(2)).findCachedWithRolesById("tester1");
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 없는 회원은 cache하지 않음")
+        public void notFoundTest() {
+            //given
+            MemberSnapshotCache memberSnapshotCache = cache(false);
+
+            //when
+            boolean first = memberSnapshotCache.exists("unknown");
+            boolean second = memberSnapshotCache.exists("unknown");
+
+            //then
+            assertThat(first).isFalse();
+            assertThat(second).isFalse();
+            verify(memberRepository, times(2)).findCachedWithRolesById("unknown");
+        }
+
+        @Test
+        @DisplayName("2. redis 오류 시 DB에서 조회")
+        public void redisFailTest() {
+            //given
+            when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+            MemberSnapshotCache memberSnapshotCache = cache(true);
+
+            //when
+            Optional<MemberSnapshotCache.MemberSnapshot> snapshot = memberSnapshotCache.get("tester1");
+
+            //then
+            assertThat(snapshot).isPresent();
+            verify(memberRepository, times(1)).findCachedWithRolesById("tester1");
+        }
+    }
+}
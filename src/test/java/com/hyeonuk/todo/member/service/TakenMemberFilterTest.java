@@ -0,0 +1,254 @@
+package com.hyeonuk.todo.member.service;
+
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TakenMemberFilterTest {
+    @Mock
+    private MemberRepository memberRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    //DB 대신 사용할 회원 목록. [id, email]
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        rows.add(new Object[]{"tester1", "tester1@gmail.com"});
+        rows.add(new Object[]{"Tester2", "Tester2@gmail.com"});
+
+        lenient().when(memberRepository.count()).thenAnswer(invocation -> (long) rows.size());
+        lenient().when(memberRepository.findIdAndEmailAfter(anyString(), any(Pageable.class))).thenAnswer(this::page);
+    }
+
+    //아이디 순서로 afterId 다음부터 page 크기만큼
+    private List<Object[]> page(InvocationOnMock invocation) {
+        String afterId = invocation.getArgument(0);
+        Pageable pageable = invocation.getArgument(1);
+        return rows.stream()
+                .filter(row -> ((String) row[0]).compareTo(afterId) > 0)
+                .sorted(Comparator.comparing(row -> (String) row[0]))
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private TakenMemberFilter filter() {
+        return new TakenMemberFilter(1000, 0.01, 1000, memberRepository, meterRegistry);
+    }
+
+    //서버가 뜰 때 scheduler가 처음 만든 상태
+    private TakenMemberFilter builtFilter() {
+        TakenMemberFilter filter = filter();
+        filter.rebuild();
+        return filter;
+    }
+
+    /**
+     * 성공케이스
+     * 1. 가입된 아이디, 이메일은 대소문자와 상관없이 true v
+     * 2. 가입 후 put한 값은 true v
+     * 3. 조회할 때는 DB를 읽지 않음 v
+     * 4. rebuild 후에는 다른 서버에서 가입한 회원도 반영 v
+     * 5. rebuild 중에도 이전 filter로 조회하고, 그 사이 put한 값은 새 filter에도 반영 v
+     * 6. 회원을 page 크기만큼 나눠서 읽어도 모두 반영 v
+     * 실패케이스
+     * 1. 가입되지 않은 값은 false이고 negative로 기록 v
+     * 2. 아직 만들어지지 않았으면 put은 무시하고 조회는 모두 DB에서 확인 v
+     * 3. 처음 만들 때 DB 오류는 던지지 않고 다음 rebuild에서 다시 만듦 v
+     * 4. 다시 만들 때 DB 오류가 나면 이전 filter를 사용 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 가입된 아이디, 이메일은 대소문자와 상관없이 true")
+        public void takenTest() {
+            //given
+            TakenMemberFilter filter = builtFilter();
+
+            //when & then
+            assertThat(filter.mightContainId("tester1")).isTrue();
+            assertThat(filter.mightContainId("tester2")).isTrue();
+            assertThat(filter.mightContainEmail("TESTER1@gmail.com")).isTrue();
+            assertThat(filter.mightContainEmail("tester2@gmail.com")).isTrue();
+        }
+
+        @Test
+        @DisplayName("2. 가입 후 put한 값은 true")
+        public void putTest() {
+            //given
+            TakenMemberFilter filter = builtFilter();
+
+            //when
+            filter.put("newMember1", "newMember1@gmail.com");
+
+            //then
+            assertThat(filter.mightContainId("newMember1")).isTrue();
+            assertThat(filter.mightContainEmail("newMember1@gmail.com")).isTrue();
+        }
+
+        @Test
+        @DisplayName("3. 조회할 때는 DB를 읽지 않음")
+        public void buildOnceTest() {
+            //given
+            TakenMemberFilter filter = builtFilter();
+
+            //when
+            filter.mightContainId("tester1");
+            filter.mightContainId("tester3");
+            filter.mightContainEmail("tester3@gmail.com");
+
+            //then
+            verify(memberRepository, times(1)).findIdAndEmailAfter(anyString(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("4. rebuild 후에는 다른 서버에서 가입한 회원도 반영")
+        public void rebuildTest() {
+            //given
+            TakenMemberFilter filter = builtFilter();
+            rows.add(new Object[]{"tester3", "tester3@gmail.com"});
+
+            //when
+            filter.rebuild();
+
+            //then
+            assertThat(filter.mightContainId("tester3")).isTrue();
+        }
+
+        @Test
+        @DisplayName("5. rebuild 중에도 이전 filter로 조회하고, 그 사이 put한 값은 새 filter에도 반영")
+        public void putWhileRebuildTest() {
+            //given
+            TakenMemberFilter filter = builtFilter();
+            AtomicBoolean takenWhileRebuild = new AtomicBoolean();
+            //DB를 읽는 도중에 다른 요청이 조회와 가입을 함
+            doAnswer(invocation -> {
+                filter.put("newMember1", "newMember1@gmail.com");
+                takenWhileRebuild.set(filter.mightContainId("tester1") && filter.mightContainId("newMember1"));
+                return page(invocation);
+            }).when(memberRepository).findIdAndEmailAfter(anyString(), any(Pageable.class));
+
+            //when
+            filter.rebuild();
+
+            //then
+            assertThat(takenWhileRebuild.get()).isTrue();
+            assertThat(filter.mightContainId("newMember1")).isTrue();
+            assertThat(filter.mightContainEmail("newMember1@gmail.com")).isTrue();
+        }
+
+        @Test
+        @DisplayName("6. 회원을 page 크기만큼 나눠서 읽어도 모두 반영")
+        public void pagedRebuildTest() {
+            //given
+            rows.add(new Object[]{"tester3", "tester3@gmail.com"});
+            TakenMemberFilter filter = new TakenMemberFilter(1000, 0.01, 2, memberRepository, meterRegistry);
+
+            //when
+            filter.rebuild();
+
+            //then
+            assertThat(filter.mightContainId("tester1")).isTrue();
+            assertThat(filter.mightContainId("tester2")).isTrue();
+            assertThat(filter.mightContainId("tester3")).isTrue();
+            //2개, 1개를 읽고 page가 덜 찼으므로 끝남
+            verify(memberRepository, times(2)).findIdAndEmailAfter(anyString(), any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 가입되지 않은 값은 false이고 negative로 기록")
+        public void notTakenTest() {
+            //given
+            TakenMemberFilter filter = builtFilter();
+
+            //when
+            boolean result = filter.mightContainId("notExistId123");
+
+            //then
+            assertThat(result).isFalse();
+            assertThat(meterRegistry.get("member.taken.filter").tag("result", "negative").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("2. 아직 만들어지지 않았으면 put은 무시하고 조회는 모두 DB에서 확인")
+        public void notBuiltTest() {
+            //given
+            TakenMemberFilter filter = filter();
+
+            //when
+            filter.put("newMember1", "newMember1@gmail.com");
+
+            //then
+            assertThat(filter.mightContainId("notExistId123")).isTrue();
+            verify(memberRepository, never()).findIdAndEmailAfter(anyString(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("3. 처음 만들 때 DB 오류는 던지지 않고 다음 rebuild에서 다시 만듦")
+        public void buildFailTest() {
+            //given
+            TakenMemberFilter filter = filter();
+            doThrow(new DataAccessResourceFailureException("down"))
+                    .doAnswer(this::page)
+                    .when(memberRepository).findIdAndEmailAfter(anyString(), any(Pageable.class));
+
+            //when
+            filter.rebuild();
+            boolean beforeRebuild = filter.mightContainId("notExistId123");
+            filter.rebuild();
+
+            //then
+            assertThat(beforeRebuild).isTrue();
+            assertThat(filter.mightContainId("notExistId123")).isFalse();
+        }
+
+        @Test
+        @DisplayName("4. 다시 만들 때 DB 오류가 나면 이전 filter를 사용")
+        public void rebuildFailTest() {
+            //given
+            TakenMemberFilter filter = builtFilter();
+
+            //when
+            doThrow(new DataAccessResourceFailureException("down"))
+                    .when(memberRepository).findIdAndEmailAfter(anyString(), any(Pageable.class));
+            filter.rebuild();
+
+            //then
+            assertThat(filter.mightContainId("tester1")).isTrue();
+            assertThat(filter.mightContainId("notExistId123")).isFalse();
+        }
+    }
+}
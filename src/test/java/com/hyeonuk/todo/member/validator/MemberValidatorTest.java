@@ -0,0 +1,92 @@
+package com.hyeonuk.todo.member.validator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberValidatorTest {
+    private final List<String> ids = List.of("dummy1", "abc12", "a1234567890123456789", "ABCDE1",
+            "abcde", "12345", "ab12", "a12345678901234567890", "abc_12", "abc 12", "abc12\n", "아이디123", "");
+    private final List<String> emails = List.of("dummy@gmail.com", "a.b_c%d+e-f@sub.domain.co", "a@b.cd", "a@b..cd", "a@.b.cd",
+            "dummy@gmail", "@gmail.com", "dummy@@gmail.com", "dummy@gmail.c", "dummy@gmail.c1", "dummy@.com", "dummy@gmail.com.",
+            "dum my@gmail.com", "dummy@gm_ail.com", "dummy@gmail.com\n", "dummy", "");
+    private final List<String> passwords = List.of("Abcdefg123!", "aB1!aB1!", "aB1!aB1!aB1!aB1!",
+            "aB1!aB1", "aB1!aB1!aB1!aB1!a", "abcdefg123!", "ABCDEFG123!", "Abcdefghij!", "Abcdefg1234",
+            "Abcdefg123!(", "Abcdefg 123!", "Abcdefg123!\n", "");
+
+    /**
+     * 성공케이스
+     * 1. 아이디 검사 결과가 정규식과 같음 v
+     * 2. 이메일 검사 결과가 정규식과 같음 v
+     * 3. 비밀번호 검사 결과가 정규식과 같음 v
+     * 4. 올바른 입력값 v
+     * 실패케이스
+     * 1. null 입력 v
+     * 2. 규칙에 맞지 않는 입력값 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 아이디 검사 결과가 정규식과 같음")
+        public void idSameAsRegexTest() {
+            for (String id : ids) {
+                assertThat(MemberValidator.isValidId(id))
+                        .as(id)
+                        .isEqualTo(MemberValidator.ID_PATTERN.matcher(id).matches());
+            }
+        }
+
+        @Test
+        @DisplayName("2. 이메일 검사 결과가 정규식과 같음")
+        public void emailSameAsRegexTest() {
+            for (String email : emails) {
+                assertThat(MemberValidator.isValidEmail(email))
+                        .as(email)
+                        .isEqualTo(MemberValidator.EMAIL_PATTERN.matcher(email).matches());
+            }
+        }
+
+        @Test
+        @DisplayName("3. 비밀번호 검사 결과가 정규식과 같음")
+        public void passwordSameAsRegexTest() {
+            for (String password : passwords) {
+                assertThat(MemberValidator.isValidPassword(password))
+                        .as(password)
+                        .isEqualTo(MemberValidator.PASSWORD_PATTERN.matcher(password).matches());
+            }
+        }
+
+        @Test
+        @DisplayName("4. 올바른 입력값")
+        public void validTest() {
+            assertThat(MemberValidator.isValidId("dummy1")).isTrue();
+            assertThat(MemberValidator.isValidEmail("dummy@gmail.com")).isTrue();
+            assertThat(MemberValidator.isValidPassword("Abcdefg123!")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. null 입력")
+        public void nullTest() {
+            assertThat(MemberValidator.isValidId(null)).isFalse();
+            assertThat(MemberValidator.isValidEmail(null)).isFalse();
+            assertThat(MemberValidator.isValidPassword(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("2. 규칙에 맞지 않는 입력값")
+        public void invalidTest() {
+            assertThat(MemberValidator.isValidId("abcde")).isFalse();
+            assertThat(MemberValidator.isValidEmail("dummy@gmail")).isFalse();
+            assertThat(MemberValidator.isValidPassword("abcdefg123!")).isFalse();
+        }
+    }
+}
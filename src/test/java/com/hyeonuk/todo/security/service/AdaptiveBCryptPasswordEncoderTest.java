@@ -0,0 +1,79 @@
+package com.hyeonuk.todo.security.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveBCryptPasswordEncoderTest {
+    private final String password = "Abcdefg123!";
+
+    /**
+     * 성공케이스
+     * 1. 다른 cost로 저장된 hash도 검증 가능 v
+     * 2. 낮은 cost로 저장된 hash는 재암호화 대상 v
+     * 3. 높은 cost로 저장된 hash는 낮추지 않음 v
+     * 4. 같은 cost로 저장된 hash는 재암호화하지 않음 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 다른 cost로 저장된 hash도 검증 가능")
+        public void matchesOtherCostTest() {
+            String stored = new BCryptPasswordEncoder(4).encode(password);
+
+            assertThat(new AdaptiveBCryptPasswordEncoder(5, 4).matches(password, stored)).isTrue();
+        }
+
+        @Test
+        @DisplayName("2. 낮은 cost로 저장된 hash는 재암호화 대상")
+        public void upgradeTest() {
+            String stored = new BCryptPasswordEncoder(4).encode(password);
+
+            assertThat(new AdaptiveBCryptPasswordEncoder(5, 4).upgradeEncoding(stored)).isTrue();
+        }
+
+        @Test
+        @DisplayName("3. 높은 cost로 저장된 hash는 낮추지 않음")
+        public void noDowngradeTest() {
+            String stored = new BCryptPasswordEncoder(5).encode(password);
+
+            assertThat(new AdaptiveBCryptPasswordEncoder(4, 4).upgradeEncoding(stored)).isFalse();
+        }
+
+        @Test
+        @DisplayName("4. 같은 cost로 저장된 hash는 재암호화하지 않음")
+        public void sameCostTest() {
+            AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(4, 4);
+
+            assertThat(encoder.upgradeEncoding(encoder.encode(password))).isFalse();
+            assertThat(encoder.upgradeEncoding("notBcryptHash")).isFalse();
+        }
+    }
+
+    /**
+     * 실패케이스
+     * 1. 최소 cost보다 낮은 cost는 설정 불가 v
+     * 2. BCrypt가 허용하지 않는 cost는 설정 불가 v
+     */
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 최소 cost보다 낮은 cost는 설정 불가")
+        public void belowMinimumTest() {
+            assertThrows(IllegalArgumentException.class, () -> new AdaptiveBCryptPasswordEncoder(9, 10));
+        }
+
+        @Test
+        @DisplayName("2. BCrypt가 허용하지 않는 cost는 설정 불가")
+        public void outOfRangeTest() {
+            assertThrows(IllegalArgumentException.class, () -> new AdaptiveBCryptPasswordEncoder(3, 3));
+            assertThrows(IllegalArgumentException.class, () -> new AdaptiveBCryptPasswordEncoder(17, 10));
+        }
+    }
+}
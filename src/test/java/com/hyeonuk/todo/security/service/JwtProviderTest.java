@@ -0,0 +1,313 @@
+package com.hyeonuk.todo.security.service;
+
+import com.hyeonuk.todo.member.entity.Authority;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtProviderTest {
+    private final String secretKey = "test-secret-key-test-secret-key-test-secret-key";
+    private JwtProvider jwtProvider;
+    private JwtFailureRecorder jwtFailureRecorder;
+    private JwtRevocationService jwtRevocationService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    //redis 서버 대신 사용할 저장소
+    private final Map<String, String> store = new HashMap<>();
+
+    @BeforeEach
+    public void init() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().doAnswer(invocation -> {
+            store.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        lenient().when(valueOperations.get(anyString())).thenAnswer(invocation ->
+                store.get(invocation.getArgument(0, String.class)));
+
+        jwtRevocationService = new JwtRevocationService(redisTemplate);
+        ReflectionTestUtils.setField(jwtRevocationService, "exp", 60 * 1000L);
+
+        jwtFailureRecorder = new JwtFailureRecorder(new SimpleMeterRegistry(), 10000);
+        jwtProvider = new JwtProvider(secretKey, 60 * 1000, true, userDetailsService, jwtRevocationService,
+                new VerifiedTokenCache(100, 60 * 1000, new SimpleMeterRegistry()), jwtFailureRecorder);
+    }
+
+    //iatMs claim이 없는 이전 형식의 토큰. iat는 초 단위로 잘림
+    private String legacyToken(Object roles, Date issuedAt) {
+        return Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject("tester1")
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + 60 * 1000))
+                .claim("roles", roles)
+                .signWith(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8),
+                        SignatureAlgorithm.HS256.getJcaName()), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private List<String> authorities(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+    }
+
+    /**
+     * 성공케이스
+     * 1. 발급한 토큰의 claim을 한번에 검증 후 리턴 v
+     * 2. stateless 모드에서는 회원 조회 없이 roles claim으로 인증 v
+     * 3. 이전 형식({"name":...})의 roles claim도 인증 v
+     * 4. 무효화 이후에 발급된 토큰은 인증 v
+     * 5. cache된 토큰은 cache서버를 다시 조회하지 않고 인증 v
+     * 6. stateful 모드에서는 cache서버를 조회하지 않고 회원 조회로 인증 v
+     * 7. cache서버 장애 시 fail-open이면 인증 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 발급한 토큰의 claim을 한번에 검증 후 리턴")
+        public void parseClaimsTest() {
+            //given
+            String token = jwtProvider.createToken("tester1", List.of(Authority.builder().name("ROLE_USER").build()));
+
+            //when & then
+            assertThat(jwtProvider.parseClaims(token)).isPresent();
+            assertThat(jwtProvider.parseClaims(token).get().getSubject()).isEqualTo("tester1");
+        }
+
+        @Test
+        @DisplayName("2. stateless 모드에서는 회원 조회 없이 roles claim으로 인증")
+        public void statelessTest() {
+            //given
+            String token = jwtProvider.createAccessToken("tester1", List.of("ROLE_USER", "ROLE_ADMIN"));
+
+            //when
+            Authentication authentication = jwtProvider.authenticate(token);
+
+            //then
+            assertThat(authentication).isNotNull();
+            assertThat(authentication.getName()).isEqualTo("tester1");
+            assertThat(authorities(authentication)).containsExactly("ROLE_USER", "ROLE_ADMIN");
+            verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("3. 이전 형식({\"name\":...})의 roles claim도 인증")
+        public void legacyRolesTest() {
+            //given
+            String token = legacyToken(List.of(Map.of("name", "ROLE_USER")), new Date());
+
+            //when
+            Authentication authentication = jwtProvider.authenticate(token);
+
+            //then
+            assertThat(authentication).isNotNull();
+            assertThat(authorities(authentication)).containsExactly("ROLE_USER");
+        }
+
+        @Test
+        @DisplayName("4. 무효화 이후에 발급된 토큰은 인증")
+        public void issuedAfterRevokeTest() throws InterruptedException {
+            //given
+            jwtRevocationService.revokeAll("tester1");
+            Thread.sleep(2);
+
+            //when
+            String token = jwtProvider.createAccessToken("tester1", List.of("ROLE_USER"));
+
+            //then
+            assertThat(jwtProvider.authenticate(token)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("5. cache된 토큰은 cache서버를 다시 조회하지 않고 인증")
+        public void cachedTest() {
+            //given
+            String token = jwtProvider.createAccessToken("tester1", List.of("ROLE_USER"));
+
+            //when
+            Authentication first = jwtProvider.authenticate(token);
+            Authentication second = jwtProvider.authenticate(token);
+            Authentication third = jwtProvider.authenticate(token);
+
+            //then
+            assertThat(first).isNotNull();
+            assertThat(second).isSameAs(first);
+            assertThat(third).isSameAs(first);
+            verify(valueOperations, times(1)).get("jwt:revoked:tester1");
+        }
+
+        @Test
+        @DisplayName("6. stateful 모드에서는 cache서버를 조회하지 않고 회원 조회로 인증")
+        public void statefulTest() {
+            //given
+            JwtProvider statefulProvider = new JwtProvider(secretKey, 60 * 1000, false, userDetailsService, jwtRevocationService,
+                    new VerifiedTokenCache(100, 60 * 1000, new SimpleMeterRegistry()), jwtFailureRecorder);
+            when(userDetailsService.loadUserByUsername("tester1"))
+                    .thenReturn(User.withUsername("tester1").password("").roles("USER").build());
+            String token = statefulProvider.createAccessToken("tester1", List.of("ROLE_USER"));
+
+            //when
+            Authentication authentication = statefulProvider.authenticate(token);
+
+            //then
+            assertThat(authentication).isNotNull();
+            assertThat(authorities(authentication)).containsExactly("ROLE_USER");
+            verify(valueOperations, never()).get(anyString());
+        }
+
+        @Test
+        @DisplayName("7. cache서버 장애 시 fail-open이면 인증")
+        public void failOpenTest() {
+            //given
+            ReflectionTestUtils.setField(jwtRevocationService, "failOpen", true);
+            when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("connection refused"));
+            String token = jwtProvider.createAccessToken("tester1", List.of("ROLE_USER"));
+
+            //when & then
+            assertThat(jwtProvider.authenticate(token)).isNotNull();
+        }
+    }
+
+    /**
+     * 실패케이스
+     * 1. 형식이 잘못된 토큰은 malformed로 집계 v
+     * 2. 서명이 다른 토큰은 signature로 집계 v
+     * 3. 만료된 토큰은 expired로 집계 v
+     * 4. revokeAll 이전에 발급된 토큰은 거절 v
+     * 5. cache서버 장애 시 fail-open이 아니면 거절 v
+     * 6. 초 단위 iat만 있는 토큰은 같은 초에 무효화되어도 거절 v
+     */
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 형식이 잘못된 토큰은 malformed로 집계")
+        public void malformedTest() {
+            //when
+            boolean empty = jwtProvider.isValidToken("");
+            boolean noSignature = jwtProvider.isValidToken("aaa.bbb.");
+            boolean invalidChar = jwtProvider.isValidToken("aaa.b$b.ccc");
+
+            //then
+            assertThat(empty || noSignature || invalidChar).isFalse();
+            assertThat(jwtFailureRecorder.count(JwtFailureReason.MALFORMED)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("2. 서명이 다른 토큰은 signature로 집계")
+        public void signatureTest() {
+            //given
+            String token = Jwts.builder()
+                    .setSubject("tester1")
+                    .setExpiration(new Date(System.currentTimeMillis() + 60 * 1000))
+                    .signWith(new SecretKeySpec("other-secret-key-other-secret-key-other".getBytes(StandardCharsets.UTF_8),
+                            SignatureAlgorithm.HS256.getJcaName()), SignatureAlgorithm.HS256)
+                    .compact();
+
+            //when & then
+            assertThat(jwtProvider.isValidToken(token)).isFalse();
+            assertThat(jwtFailureRecorder.count(JwtFailureReason.SIGNATURE)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("3. 만료된 토큰은 expired로 집계")
+        public void expiredTest() {
+            //given
+            String token = Jwts.builder()
+                    .setSubject("tester1")
+                    .setExpiration(new Date(System.currentTimeMillis() - 60 * 1000))
+                    .signWith(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8),
+                            SignatureAlgorithm.HS256.getJcaName()), SignatureAlgorithm.HS256)
+                    .compact();
+
+            //when & then
+            assertThat(jwtProvider.isValidToken(token)).isFalse();
+            assertThat(jwtFailureRecorder.count(JwtFailureReason.EXPIRED)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("4. revokeAll 이전에 발급된 토큰은 거절")
+        public void revokedTest() {
+            //given
+            String token = jwtProvider.createAccessToken("tester1", List.of("ROLE_USER"));
+
+            //when
+            jwtRevocationService.revokeAll("tester1");
+
+            //then
+            assertThat(jwtProvider.authenticate(token)).isNull();
+            assertThat(jwtProvider.getAuthentication(token)).isNull();
+        }
+
+        @Test
+        @DisplayName("5. cache서버 장애 시 fail-open이 아니면 거절")
+        public void failClosedTest() {
+            //given
+            ReflectionTestUtils.setField(jwtRevocationService, "failOpen", false);
+            when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("connection refused"));
+            String token = jwtProvider.createAccessToken("tester1", List.of("ROLE_USER"));
+
+            //when & then
+            assertThat(jwtProvider.authenticate(token)).isNull();
+        }
+
+        @Test
+        @DisplayName("6. 초 단위 iat만 있는 토큰은 같은 초에 무효화되어도 거절")
+        public void sameSecondRevokedTest() {
+            //given
+            //무효화 시각과 같은 초에 발급되었지만 iat는 초 단위로 잘려 무효화 시각보다 앞섬
+            String token = legacyToken(List.of("ROLE_USER"), new Date());
+
+            //when
+            jwtRevocationService.revokeAll("tester1");
+
+            //then
+            assertThat(jwtProvider.authenticate(token)).isNull();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.hyeonuk.todo.security.service;
+
+import com.hyeonuk.todo.security.exception.PasswordHashException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHasherTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private ExecutorService callers;
+
+    //입력값의 역순으로 암호화하고, "block"이 들어오면 release될 때까지 대기하는 encoder
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if ("block".contentEquals(rawPassword)) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new StringBuilder(rawPassword).reverse().toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    @BeforeEach
+    public void init() {
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void clear() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    /**
+     * 성공케이스
+     * 1. encoder에 위임한 결과를 리턴 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. encoder에 위임한 결과를 리턴")
+        public void delegateTest() throws PasswordHashException {
+            PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, 1, 1, 1000);
+
+            assertThat(passwordHasher.encode("abc")).isEqualTo("cba");
+            assertThat(passwordHasher.matches("abc", "cba")).isTrue();
+            assertThat(passwordHasher.matches("abc", "abc")).isFalse();
+        }
+    }
+
+    /**
+     * 실패케이스
+     * 1. pool과 대기열이 가득 차면 바로 거절 v
+     * 2. 제한시간을 넘기면 실패 v
+     */
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. pool과 대기열이 가득 차면 바로 거절")
+        public void rejectTest() throws InterruptedException {
+            //given
+            PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, 1, 1, 5000);
+            callers.submit(() -> passwordHasher.encode("block"));//pool의 thread를 점유
+            assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+            callers.submit(() -> passwordHasher.encode("queued"));//대기열을 채움
+            Thread.sleep(100);
+
+            //when & then
+            assertThrows(PasswordHashException.class, () -> passwordHasher.encode("rejected"));
+        }
+
+        @Test
+        @DisplayName("2. 제한시간을 넘기면 실패")
+        public void timeoutTest() {
+            PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, 1, 1, 100);
+
+            assertThrows(PasswordHashException.class, () -> passwordHasher.encode("block"));
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.hyeonuk.todo.security.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private JwtRevocationService jwtRevocationService;
+
+    //redis 서버 대신 사용할 저장소
+    private final Map<String, String> store = new HashMap<>();
+
+    @BeforeEach
+    public void mockSetting() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExp", 60 * 1000L);
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().doAnswer(invocation -> {
+            store.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        lenient().when(valueOperations.get(anyString())).thenAnswer(invocation ->
+                store.get(invocation.getArgument(0, String.class)));
+        lenient().when(valueOperations.getAndDelete(anyString())).thenAnswer(invocation ->
+                store.remove(invocation.getArgument(0, String.class)));
+        lenient().when(redisTemplate.delete(anyString())).thenAnswer(invocation ->
+                store.remove(invocation.getArgument(0, String.class)) != null);
+    }
+
+    //cache서버에 저장된 사용 가능한 refresh token 개수
+    private long activeTokens() {
+        return store.keySet().stream()
+                .filter(key -> key.startsWith("jwt:refresh:"))
+                .filter(key -> !key.startsWith("jwt:refresh:used:") && !key.startsWith("jwt:refresh:family:"))
+                .count();
+    }
+
+    /**
+     * 성공케이스
+     * 1. 발급한 토큰으로 재발급하면 id와 권한이 유지되고 새로운 토큰을 발급 v
+     * 2. 재발급한 토큰도 처음 로그인한 시각 기준으로 만료 v
+     * 3. 로그아웃하면 같은 family의 토큰을 모두 폐기 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 발급한 토큰으로 재발급하면 id와 권한이 유지되고 새로운 토큰을 발급")
+        public void rotateTest() {
+            //given
+            String refreshToken = refreshTokenService.issue("tester1", List.of("ROLE_USER", "ROLE_ADMIN"));
+
+            //when
+            Optional<RefreshTokenService.Rotation> rotation = refreshTokenService.rotate(refreshToken);
+
+            //then
+            assertThat(rotation).isPresent();
+            assertThat(rotation.get().memberId()).isEqualTo("tester1");
+            assertThat(rotation.get().roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+            assertThat(rotation.get().refreshToken()).isNotEqualTo(refreshToken);
+            assertThat(activeTokens()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("2. 재발급한 토큰도 처음 로그인한 시각 기준으로 만료")
+        public void absoluteExpiryTest() throws InterruptedException {
+            //given
+            ReflectionTestUtils.setField(refreshTokenService, "refreshExp", 50L);
+            String refreshToken = refreshTokenService.issue("tester1", List.of("ROLE_USER"));
+            String rotated = refreshTokenService.rotate(refreshToken).orElseThrow().refreshToken();
+
+            //when
+            Thread.sleep(60);
+
+            //then
+            //cache서버의 TTL 대신 저장된 만료시각으로 거절되는지 확인
+            assertThat(refreshTokenService.rotate(rotated)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("3. 로그아웃하면 같은 family의 토큰을 모두 폐기")
+        public void removeTest() {
+            //given
+            String refreshToken = refreshTokenService.issue("tester1", List.of("ROLE_USER"));
+            String rotated = refreshTokenService.rotate(refreshToken).orElseThrow().refreshToken();
+            String otherDevice = refreshTokenService.issue("tester1", List.of("ROLE_USER"));
+
+            //when
+            refreshTokenService.remove(rotated);
+
+            //then
+            assertThat(refreshTokenService.rotate(rotated)).isEmpty();
+            assertThat(refreshTokenService.rotate(otherDevice)).isPresent();
+        }
+    }
+
+    /**
+     * 실패케이스
+     * 1. 이미 사용한 토큰으로 재발급 v
+     * 2. 발급하지 않은 토큰으로 재발급 v
+     * 3. 삭제된 토큰으로 재발급 v
+     * 4. 이미 사용한 토큰이 다시 들어오면 family 전체를 폐기 v
+     * 5. 무효화된 회원은 재발급 불가 v
+     */
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 이미 사용한 토큰으로 재발급")
+        public void reuseTest() {
+            //given
+            String refreshToken = refreshTokenService.issue("tester1", List.of());
+            refreshTokenService.rotate(refreshToken);
+
+            //when & then
+            assertThat(refreshTokenService.rotate(refreshToken)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("2. 발급하지 않은 토큰으로 재발급")
+        public void notIssuedTest() {
+            assertThat(refreshTokenService.rotate("notIssuedToken")).isEmpty();
+            assertThat(refreshTokenService.rotate(null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("3. 삭제된 토큰으로 재발급")
+        public void removedTest() {
+            //given
+            String refreshToken = refreshTokenService.issue("tester1", List.of("ROLE_USER"));
+
+            //when
+            refreshTokenService.remove(refreshToken);
+
+            //then
+            assertThat(refreshTokenService.rotate(refreshToken)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("4. 이미 사용한 토큰이 다시 들어오면 family 전체를 폐기")
+        public void reuseRevokesFamilyTest() {
+            //given
+            String stolen = refreshTokenService.issue("tester1", List.of("ROLE_USER"));
+            String rotated = refreshTokenService.rotate(stolen).orElseThrow().refreshToken();
+            String otherDevice = refreshTokenService.issue("tester1", List.of("ROLE_USER"));
+
+            //when
+            assertThat(refreshTokenService.rotate(stolen)).isEmpty();
+
+            //then
+            //정상 사용자가 가진 최신 토큰도 폐기되고, 다른 로그인은 유지
+            assertThat(refreshTokenService.rotate(rotated)).isEmpty();
+            assertThat(refreshTokenService.rotate(otherDevice)).isPresent();
+        }
+
+        @Test
+        @DisplayName("5. 무효화된 회원은 재발급 불가")
+        public void revokedTest() {
+            //given
+            String refreshToken = refreshTokenService.issue("tester1", List.of("ROLE_USER"));
+
+            //when
+            when(jwtRevocationService.isRevoked(eq("tester1"), any())).thenReturn(true);
+
+            //then
+            assertThat(refreshTokenService.rotate(refreshToken)).isEmpty();
+            assertThat(activeTokens()).isZero();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.hyeonuk.todo.security.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private VerifiedTokenCache verifiedTokenCache;
+    private SimpleMeterRegistry meterRegistry;
+
+    private final String token = "header.payload.signature";
+
+    @BeforeEach
+    public void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(100, 60 * 1000, meterRegistry);
+    }
+
+    private VerifiedTokenCache.VerifiedToken verified(Date expiration) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("tester", "", List.of());
+        return new VerifiedTokenCache.VerifiedToken("tester", new Date(), expiration, authentication);
+    }
+
+    /**
+     * 성공케이스
+     * 1. 저장된 토큰은 같은 인증정보를 리턴 v
+     * 2. hit/miss 횟수 기록 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. 저장된 토큰은 같은 인증정보를 리턴")
+        public void hitTest() {
+            //given
+            VerifiedTokenCache.VerifiedToken verified = verified(new Date(System.currentTimeMillis() + 60 * 1000));
+
+            //when
+            verifiedTokenCache.put(token, verified);
+
+            //then
+            assertThat(verifiedTokenCache.get(token).authentication()).isEqualTo(verified.authentication());
+        }
+
+        @Test
+        @DisplayName("2. hit/miss 횟수 기록")
+        public void statsTest() {
+            //given
+            verifiedTokenCache.put(token, verified(new Date(System.currentTimeMillis() + 60 * 1000)));
+
+            //when
+            verifiedTokenCache.get(token);
+            verifiedTokenCache.get(token);
+            verifiedTokenCache.get("other.token.value");
+
+            //then
+            assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(2);
+            assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(1);
+            assertThat(meterRegistry.find("cache.gets").tag("cache", "jwt.verified-token").tag("result", "hit")
+                    .functionCounter().count()).isEqualTo(2);
+        }
+    }
+
+    /**
+     * 실패케이스
+     * 1. 만료된 토큰은 저장하지 않음 v
+     * 2. 무효화된 토큰은 리턴하지 않음 v
+     */
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 만료된 토큰은 저장하지 않음")
+        public void expiredTokenTest() {
+            //when
+            verifiedTokenCache.put(token, verified(new Date(System.currentTimeMillis() - 1000)));
+
+            //then
+            assertThat(verifiedTokenCache.get(token)).isNull();
+        }
+
+        @Test
+        @DisplayName("2. 무효화된 토큰은 리턴하지 않음")
+        public void invalidateTest() {
+            //given
+            verifiedTokenCache.put(token, verified(new Date(System.currentTimeMillis() + 60 * 1000)));
+
+            //when
+            verifiedTokenCache.invalidate(token);
+
+            //then
+            assertThat(verifiedTokenCache.get(token)).isNull();
+        }
+    }
+}
@@ -0,0 +1,549 @@
+package com.hyeonuk.todo.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyeonuk.todo.integ.exception.NotFoundException;
+import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.security.service.JwtProvider;
+import com.hyeonuk.todo.todo.data.TransferFormat;
+import com.hyeonuk.todo.todo.dto.*;
+import com.hyeonuk.todo.todo.exception.TodoException;
+import com.hyeonuk.todo.todo.service.TodoService;
+import com.hyeonuk.todo.todo.service.TodoTransferService;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.operation.preprocess.Preprocessors.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+//서비스는 mock으로 두고 요청 값 binding, 응답 코드, 예외 변환만 검사
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@AutoConfigureRestDocs
+public class TodoControllerTest {
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockBean
+    private TodoService todoService;
+
+    @MockBean
+    private TodoTransferService todoTransferService;
+
+    private final String todoURL = "/api/todo";
+    private final String dummyId = "todoTester1";
+    private String authorization;
+
+    //토큰으로 인증할 회원을 먼저 가입시켜둠
+    @BeforeEach
+    public void init() {
+        Member member = Member.builder()
+                .id(dummyId)
+                .name("tester")
+                .email("todoTester1@gmail.com")
+                .password("1111")
+                .build();
+        member.setRoles(new ArrayList<>(List.of(Authority.builder().name("ROLE_USER").build())));
+        memberRepository.save(member);
+
+        authorization = "Bearer " + jwtProvider.createAccessToken(dummyId, List.of("ROLE_USER"));
+    }
+
+    /**
+     * 목록 조회
+     * 성공케이스
+     * 1. 첫 페이지는 cursor 없이 요청 v
+     * 2. cursor(complete, createdAt, todoId)를 query parameter로 binding v
+     * 실패케이스
+     * 1. createdAt이 ISO 형식이 아니면 400 v
+     * 2. 서비스에서 ValidationException이 발생하면 400 v
+     * 3. 토큰이 없으면 401 v
+     */
+    @Nested
+    @DisplayName("find todos test")
+    public class FindTodosTest {
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 첫 페이지는 cursor 없이 요청")
+            public void firstPageTest() throws Exception {
+                //given
+                LocalDateTime createdAt = LocalDateTime.of(2023, 5, 1, 10, 0, 0);
+                when(todoService.findTodos(any())).thenReturn(TodoListDTO.Response.builder()
+                        .todos(List.of(TodoListDTO.Item.builder()
+                                .todoId(10L)
+                                .categoryId(1L)
+                                .categoryTitle("category")
+                                .content("content")
+                                .complete(false)
+                                .createdAt(createdAt)
+                                .build()))
+                        .hasNext(true)
+                        .next(new TodoListDTO.Cursor(false, createdAt, 10L))
+                        .build());
+
+                //when & then
+                mvc.perform(get(todoURL).header(HttpHeaders.AUTHORIZATION, authorization).param("size", "1"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.todos[0].todoId", is(10)))
+                        .andExpect(jsonPath("$.hasNext", is(true)))
+                        .andExpect(jsonPath("$.next.todoId", is(10)))
+                        .andDo(document("todo 목록 조회",
+                                preprocessResponse(prettyPrint()),
+                                queryParameters(
+                                        parameterWithName("size").description("페이지 크기 (기본 20)").optional(),
+                                        parameterWithName("complete").description("이전 페이지 next.complete").optional(),
+                                        parameterWithName("createdAt").description("이전 페이지 next.createdAt (ISO 형식)").optional(),
+                                        parameterWithName("todoId").description("이전 페이지 next.todoId").optional()
+                                ),
+                                responseFields(
+                                        fieldWithPath("todos[].todoId").description("todo 아이디"),
+                                        fieldWithPath("todos[].categoryId").description("카테고리 아이디"),
+                                        fieldWithPath("todos[].categoryTitle").description("카테고리 제목"),
+                                        fieldWithPath("todos[].content").description("내용"),
+                                        fieldWithPath("todos[].complete").description("완료 여부"),
+                                        fieldWithPath("todos[].createdAt").description("작성 시각"),
+                                        fieldWithPath("hasNext").description("다음 페이지 존재 여부"),
+                                        fieldWithPath("next.complete").description("다음 페이지 cursor 완료 여부. 다음 페이지가 없으면 next는 null").optional(),
+                                        fieldWithPath("next.createdAt").description("cursor 작성 시각").optional(),
+                                        fieldWithPath("next.todoId").description("cursor todo 아이디").optional()
+                                )));
+
+                ArgumentCaptor<TodoListDTO.Request> captor = ArgumentCaptor.forClass(TodoListDTO.Request.class);
+                verify(todoService).findTodos(captor.capture());
+                assertThat(captor.getValue().getUserId()).isEqualTo(dummyId);
+                assertThat(captor.getValue().getSize()).isEqualTo(1);
+                assertThat(captor.getValue().getCreatedAt()).isNull();
+            }
+
+            @Test
+            @DisplayName("2. cursor(complete, createdAt, todoId)를 query parameter로 binding")
+            public void cursorBindingTest() throws Exception {
+                //given
+                when(todoService.findTodos(any())).thenReturn(TodoListDTO.Response.builder()
+                        .todos(List.of())
+                        .hasNext(false)
+                        .build());
+
+                //when
+                mvc.perform(get(todoURL).header(HttpHeaders.AUTHORIZATION, authorization)
+                                .param("complete", "false")
+                                .param("createdAt", "2023-05-01T10:00:00")
+                                .param("todoId", "10"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.hasNext", is(false)));
+
+                //then
+                ArgumentCaptor<TodoListDTO.Request> captor = ArgumentCaptor.forClass(TodoListDTO.Request.class);
+                verify(todoService).findTodos(captor.capture());
+                assertThat(captor.getValue().getComplete()).isFalse();
+                assertThat(captor.getValue().getCreatedAt()).isEqualTo(LocalDateTime.of(2023, 5, 1, 10, 0, 0));
+                assertThat(captor.getValue().getTodoId()).isEqualTo(10L);
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. createdAt이 ISO 형식이 아니면 400")
+            public void invalidCreatedAtTest() throws Exception {
+                mvc.perform(get(todoURL).header(HttpHeaders.AUTHORIZATION, authorization)
+                                .param("complete", "false")
+                                .param("createdAt", "2023/05/01 10:00")
+                                .param("todoId", "10"))
+                        .andExpect(status().isBadRequest());
+
+                verify(todoService, never()).findTodos(any());
+            }
+
+            @Test
+            @DisplayName("2. 서비스에서 ValidationException이 발생하면 400")
+            public void validationTest() throws Exception {
+                when(todoService.findTodos(any())).thenThrow(new ValidationException("잘못된 페이지 정보입니다."));
+
+                mvc.perform(get(todoURL).header(HttpHeaders.AUTHORIZATION, authorization).param("todoId", "10"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.message", is("잘못된 페이지 정보입니다.")))
+                        .andExpect(jsonPath("$.status", is(HttpStatus.BAD_REQUEST.value())));
+            }
+
+            @Test
+            @DisplayName("3. 토큰이 없으면 401")
+            public void unauthorizedTest() throws Exception {
+                mvc.perform(get(todoURL))
+                        .andExpect(status().isUnauthorized())
+                        .andExpect(jsonPath("$.status", is(HttpStatus.UNAUTHORIZED.value())));
+
+                verify(todoService, never()).findTodos(any());
+            }
+        }
+    }
+
+    /**
+     * 월별 개수 조회
+     * 성공케이스
+     * 1. year, month를 binding하고 일별 개수를 응답 v
+     * 실패케이스
+     * 1. 서비스에서 ValidationException이 발생하면 400 v
+     * 2. 서비스에서 TodoException이 발생하면 500 v
+     */
+    @Nested
+    @DisplayName("calendar test")
+    public class CalendarTest {
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. year, month를 binding하고 일별 개수를 응답")
+            public void calendarTest() throws Exception {
+                //given
+                when(todoService.calendar(any())).thenReturn(TodoCalendarDTO.Response.builder()
+                        .year(2023)
+                        .month(2)
+                        .days(List.of(new TodoCalendarDTO.Day(1, 3, 1), new TodoCalendarDTO.Day(2, 0, 0)))
+                        .build());
+
+                //when
+                mvc.perform(get(todoURL + "/calendar").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .param("year", "2023")
+                                .param("month", "2"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.days[0].total", is(3)))
+                        .andDo(document("todo 월별 개수 조회",
+                                preprocessResponse(prettyPrint()),
+                                queryParameters(
+                                        parameterWithName("year").description("연도"),
+                                        parameterWithName("month").description("월")
+                                ),
+                                responseFields(
+                                        fieldWithPath("year").description("연도"),
+                                        fieldWithPath("month").description("월"),
+                                        fieldWithPath("days[].day").description("일"),
+                                        fieldWithPath("days[].total").description("todo 개수"),
+                                        fieldWithPath("days[].completed").description("완료한 todo 개수")
+                                )));
+
+                //then
+                ArgumentCaptor<TodoCalendarDTO.Request> captor = ArgumentCaptor.forClass(TodoCalendarDTO.Request.class);
+                verify(todoService).calendar(captor.capture());
+                assertThat(captor.getValue().getUserId()).isEqualTo(dummyId);
+                assertThat(captor.getValue().getYear()).isEqualTo(2023);
+                assertThat(captor.getValue().getMonth()).isEqualTo(2);
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 서비스에서 ValidationException이 발생하면 400")
+            public void validationTest() throws Exception {
+                when(todoService.calendar(any())).thenThrow(new ValidationException("입력값을 확인해주세요"));
+
+                mvc.perform(get(todoURL + "/calendar").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .param("year", "2023")
+                                .param("month", "13"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.message", is("입력값을 확인해주세요")));
+            }
+
+            @Test
+            @DisplayName("2. 서비스에서 TodoException이 발생하면 500")
+            public void todoExceptionTest() throws Exception {
+                when(todoService.calendar(any())).thenThrow(new TodoException("조회 오류"));
+
+                mvc.perform(get(todoURL + "/calendar").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .param("year", "2023")
+                                .param("month", "2"))
+                        .andExpect(status().isInternalServerError())
+                        .andExpect(jsonPath("$.status", is(HttpStatus.INTERNAL_SERVER_ERROR.value())));
+            }
+        }
+    }
+
+    /**
+     * 일괄 처리
+     * 성공케이스
+     * 1. 내용 일괄 수정 v
+     * 2. 완료 여부 일괄 변경 v
+     * 3. 일괄 삭제 v
+     * 실패케이스
+     * 1. 없거나 다른 회원의 todo가 포함되면 404 v
+     * 2. 요청 개수 제한, 중복 아이디 등 ValidationException은 400 v
+     * 3. body 형식이 json이 아니면 415 v
+     */
+    @Nested
+    @DisplayName("batch test")
+    public class BatchTest {
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 내용 일괄 수정")
+            public void updateAllTest() throws Exception {
+                //given
+                when(todoService.updateAll(any())).thenReturn(new TodoBatchUpdateDTO.Response(List.of(1L, 2L)));
+                TodoBatchUpdateDTO.Request request = TodoBatchUpdateDTO.Request.builder()
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "content1"), new TodoBatchUpdateDTO.Change(2L, "content2")))
+                        .build();
+
+                //when
+                mvc.perform(patch(todoURL + "/batch/content").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType("application/json;charset=utf-8")
+                                .content(mapper.writeValueAsString(request)))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.todoIds[1]", is(2)))
+                        .andDo(document("todo 내용 일괄 수정",
+                                preprocessRequest(prettyPrint()),
+                                preprocessResponse(prettyPrint()),
+                                requestFields(
+                                        fieldWithPath("userId").description("무시됨. 토큰의 회원으로 처리").optional(),
+                                        fieldWithPath("changes[].todoId").description("todo 아이디"),
+                                        fieldWithPath("changes[].content").description("변경할 내용")
+                                ),
+                                responseFields(
+                                        fieldWithPath("todoIds").description("수정된 todo 아이디")
+                                )));
+
+                //then
+                ArgumentCaptor<TodoBatchUpdateDTO.Request> captor = ArgumentCaptor.forClass(TodoBatchUpdateDTO.Request.class);
+                verify(todoService).updateAll(captor.capture());
+                assertThat(captor.getValue().getUserId()).isEqualTo(dummyId);
+                assertThat(captor.getValue().getChanges()).hasSize(2);
+            }
+
+            @Test
+            @DisplayName("2. 완료 여부 일괄 변경")
+            public void completeAllTest() throws Exception {
+                //given
+                when(todoService.completeAll(any())).thenReturn(new TodoBatchCompleteDTO.Response(List.of(1L, 2L), true));
+                TodoBatchCompleteDTO.Request request = TodoBatchCompleteDTO.Request.builder()
+                        .todoIds(List.of(1L, 2L))
+                        .complete(true)
+                        .build();
+
+                //when & then
+                mvc.perform(patch(todoURL + "/batch/complete").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType("application/json;charset=utf-8")
+                                .content(mapper.writeValueAsString(request)))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.complete", is(true)))
+                        .andDo(document("todo 완료 여부 일괄 변경",
+                                preprocessRequest(prettyPrint()),
+                                preprocessResponse(prettyPrint()),
+                                requestFields(
+                                        fieldWithPath("userId").description("무시됨. 토큰의 회원으로 처리").optional(),
+                                        fieldWithPath("todoIds").description("변경할 todo 아이디"),
+                                        fieldWithPath("complete").description("변경할 완료 여부")
+                                ),
+                                responseFields(
+                                        fieldWithPath("todoIds").description("변경된 todo 아이디"),
+                                        fieldWithPath("complete").description("변경된 완료 여부")
+                                )));
+            }
+
+            @Test
+            @DisplayName("3. 일괄 삭제")
+            public void deleteAllTest() throws Exception {
+                //given
+                when(todoService.deleteAll(any())).thenReturn(new TodoBatchDeleteDTO.Response(List.of(1L, 2L)));
+                TodoBatchDeleteDTO.Request request = TodoBatchDeleteDTO.Request.builder()
+                        .todoIds(List.of(1L, 2L))
+                        .build();
+
+                //when & then
+                mvc.perform(post(todoURL + "/batch/delete").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType("application/json;charset=utf-8")
+                                .content(mapper.writeValueAsString(request)))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.todoIds[0]", is(1)))
+                        .andDo(document("todo 일괄 삭제",
+                                preprocessRequest(prettyPrint()),
+                                preprocessResponse(prettyPrint()),
+                                requestFields(
+                                        fieldWithPath("userId").description("무시됨. 토큰의 회원으로 처리").optional(),
+                                        fieldWithPath("todoIds").description("삭제할 todo 아이디")
+                                ),
+                                responseFields(
+                                        fieldWithPath("todoIds").description("삭제된 todo 아이디")
+                                )));
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 없거나 다른 회원의 todo가 포함되면 404")
+            public void notFoundTest() throws Exception {
+                when(todoService.deleteAll(any())).thenThrow(new NotFoundException("존재하지 않는 todo입니다."));
+
+                mvc.perform(post(todoURL + "/batch/delete").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType("application/json;charset=utf-8")
+                                .content(mapper.writeValueAsString(new TodoBatchDeleteDTO.Request(null, List.of(1L, 999L)))))
+                        .andExpect(status().isNotFound())
+                        .andExpect(jsonPath("$.message", is("존재하지 않는 todo입니다.")))
+                        .andExpect(jsonPath("$.status", is(HttpStatus.NOT_FOUND.value())));
+            }
+
+            @Test
+            @DisplayName("2. 요청 개수 제한, 중복 아이디 등 ValidationException은 400")
+            public void validationTest() throws Exception {
+                when(todoService.completeAll(any())).thenThrow(new ValidationException("중복된 todo가 있습니다."));
+
+                mvc.perform(patch(todoURL + "/batch/complete").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType("application/json;charset=utf-8")
+                                .content(mapper.writeValueAsString(new TodoBatchCompleteDTO.Request(null, List.of(1L, 1L), true))))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.message", is("중복된 todo가 있습니다.")));
+            }
+
+            @Test
+            @DisplayName("3. body 형식이 json이 아니면 415")
+            public void unsupportedMediaTypeTest() throws Exception {
+                mvc.perform(patch(todoURL + "/batch/content").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType("text/plain")
+                                .content("1,content"))
+                        .andExpect(status().isUnsupportedMediaType());
+
+                verify(todoService, never()).updateAll(any());
+            }
+        }
+    }
+
+    /**
+     * 가져오기, 내보내기
+     * 성공케이스
+     * 1. ndjson body를 그대로 서비스에 전달하고 201 v
+     * 2. 요청한 형식으로 파일을 내려받음 v
+     * 실패케이스
+     * 1. 지원하지 않는 content type으로 가져오면 415 v
+     * 2. 지원하지 않는 형식으로 내보내면 400 v
+     */
+    @Nested
+    @DisplayName("transfer test")
+    public class TransferTest {
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. ndjson body를 그대로 서비스에 전달하고 201")
+            public void importTest() throws Exception {
+                //given
+                String body = "{\"category\":\"category\"}\n{\"category\":\"category\",\"content\":\"content\",\"complete\":false}\n";
+                when(todoTransferService.importTodos(eq(dummyId), any(InputStream.class), eq(TransferFormat.NDJSON)))
+                        .thenAnswer(invocation -> {
+                            String read = new String(invocation.getArgument(1, InputStream.class).readAllBytes(), StandardCharsets.UTF_8);
+                            assertThat(read).isEqualTo(body);
+                            return new TodoTransferDTO.ImportResponse(1, 1);
+                        });
+
+                //when & then
+                mvc.perform(post(todoURL + "/import").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType("application/x-ndjson")
+                                .content(body))
+                        .andExpect(status().isCreated())
+                        .andExpect(jsonPath("$.categories", is(1)))
+                        .andExpect(jsonPath("$.todos", is(1)))
+                        .andDo(document("todo 가져오기",
+                                preprocessResponse(prettyPrint()),
+                                responseFields(
+                                        fieldWithPath("categories").description("새로 만든 카테고리 수"),
+                                        fieldWithPath("todos").description("저장한 todo 수")
+                                )));
+            }
+
+            @Test
+            @DisplayName("2. 요청한 형식으로 파일을 내려받음")
+            public void exportTest() throws Exception {
+                //given
+                doAnswer(invocation -> {
+                    invocation.getArgument(1, OutputStream.class).write("category,content,complete\n".getBytes(StandardCharsets.UTF_8));
+                    return null;
+                }).when(todoTransferService).exportTodos(eq(dummyId), any(OutputStream.class), eq(TransferFormat.CSV));
+
+                //when
+                MvcResult result = mvc.perform(get(todoURL + "/export").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .param("format", "csv"))
+                        .andExpect(request().asyncStarted())
+                        .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.csv\""))
+                        .andReturn();
+                //StreamingResponseBody는 별도 스레드에서 응답을 쓰므로 끝날 때까지 기다림
+                result.getAsyncResult();
+
+                //then
+                assertThat(result.getResponse().getContentType()).startsWith("text/csv");
+                assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo("category,content,complete\n");
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 지원하지 않는 content type으로 가져오면 415")
+            public void importUnsupportedTest() throws Exception {
+                mvc.perform(post(todoURL + "/import").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType("application/xml")
+                                .content("<todos/>"))
+                        .andExpect(status().isUnsupportedMediaType());
+
+                verify(todoTransferService, never()).importTodos(anyString(), any(), any());
+            }
+
+            @Test
+            @DisplayName("2. 지원하지 않는 형식으로 내보내면 400")
+            public void exportUnsupportedTest() throws Exception {
+                mvc.perform(get(todoURL + "/export").header(HttpHeaders.AUTHORIZATION, authorization)
+                                .param("format", "xml"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.message", is("지원하지 않는 형식입니다.")));
+            }
+        }
+    }
+}
@@ -14,7 +14,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -90,6 +93,13 @@ class TodoAndCategoryRepositoryTest {
         }
     }
 
+    //회원의 todo 전체 (카테고리 삭제 후 남은 todo 확인용)
+    private List<Todo> todosOf(String memberId) {
+        return todoRepository.findAll().stream()
+                .filter(todo -> todo.getMember().getId().equals(memberId))
+                .toList();
+    }
+
     /**
      *
      * update 테스트
@@ -285,6 +295,7 @@ class TodoAndCategoryRepositoryTest {
          *
          * 1. todo삭제 v
          * 2. 카테고리 삭제 v
+         * 3. 카테고리와 하위 todo 일괄 삭제 v
          *
          */
         @Nested
@@ -303,7 +314,7 @@ class TodoAndCategoryRepositoryTest {
                 todoRepository.deleteById(todoList[mIndex].get(0).getId());
 
                 //then
-                List<Todo> todos = todoRepository.findTodosWithCategoriesByMemberId(memberId);
+                List<Todo> todos = todosOf(memberId);
 
                 assertThat(todos.size()).isEqualTo(beforeSize-1);
             }
@@ -320,15 +331,69 @@ class TodoAndCategoryRepositoryTest {
                 todoRepository.deleteById(todoList[mIndex].get(0).getId());
 
                 //then
-                List<Todo> todos = todoRepository.findTodosWithCategoriesByMemberId(memberId);
+                List<Todo> todos = todosOf(memberId);
 
                 assertThat(todos.size()).isEqualTo(beforeSize-1);
             }
+
+            @Test
+            @DisplayName("3. 카테고리와 하위 todo 일괄 삭제")
+            public void categoryBulkDeleteSuccess(){
+                //given
+                int mIndex = 0;
+                Member member = memberList.get(mIndex);
+                String memberId = member.getId();
+                Category category = todoList[mIndex].stream()
+                        .map(Todo::getCategory)
+                        .filter(Objects::nonNull)
+                        .findFirst()
+                        .get();
+                long childCount = todoList[mIndex].stream()
+                        .filter(t -> t.getCategory() == category)
+                        .count();
+                int beforeSize = todoList[mIndex].size();
+
+                //when
+                int todoDeleted = todoRepository.deleteAllByCategoryIdAndMemberId(category.getId(), memberId);
+                int categoryDeleted = categoryRepository.deleteByIdAndMemberId(category.getId(), memberId);
+
+                //then
+                List<Todo> todos = todosOf(memberId);
+
+                assertAll(
+                        ()->assertThat(todoDeleted).isEqualTo((int) childCount),
+                        ()->assertThat(categoryDeleted).isEqualTo(1),
+                        ()->assertThat(todos.size()).isEqualTo(beforeSize - (int) childCount),
+                        ()->assertThat(categoryRepository.existsById(category.getId())).isFalse()
+                );
+            }
         }
         @Nested
         @DisplayName("fail")
         public class Fail{
+            /**
+             * 1. 다른 사람의 카테고리 일괄 삭제 v
+             */
+            @Test
+            @DisplayName("1. 다른 사람의 카테고리 일괄 삭제")
+            public void otherCategoryBulkDeleteFail(){
+                //given
+                Member member = memberList.get(0);
+                Category category = categoryList[1].get(0);
+                int beforeSize = todoList[1].size();
 
+                //when
+                int todoDeleted = todoRepository.deleteAllByCategoryIdAndMemberId(category.getId(), member.getId());
+                int categoryDeleted = categoryRepository.deleteByIdAndMemberId(category.getId(), member.getId());
+
+                //then
+                assertAll(
+                        ()->assertThat(todoDeleted).isEqualTo(0),
+                        ()->assertThat(categoryDeleted).isEqualTo(0),
+                        ()->assertThat(categoryRepository.existsById(category.getId())).isTrue(),
+                        ()->assertThat(todosOf(memberList.get(1).getId()).size()).isEqualTo(beforeSize)
+                );
+            }
         }
     }
 
@@ -570,57 +635,243 @@ class TodoAndCategoryRepositoryTest {
     }
 
 
-    /**
-     * memberId를 이용하여 todos를 불러옴. complete asc, createdAt desc
-     */
     @Nested
-    @DisplayName("findTodosWithCategoriesByMemberId")
-    public class FindTodosWithCategoriesByMemberIdTest {
+    @DisplayName("findPageByMemberId")
+    public class FindPageByMemberIdTest {
+        /**
+         * 성공 케이스
+         * 1. cursor로 끝까지 조회한 결과가 (complete asc, createdAt desc, id desc) 정렬 결과와 같음 v
+         * 2. 없는 Id로 불러옴 v
+         */
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. cursor로 끝까지 조회한 결과가 정렬 결과와 같음")
+            public void keysetTest() {
+                int mIndex = 0;
+                String memberId = memberList.get(mIndex).getId();
+                int size = 2;
+
+                List<Long> expected = todoList[mIndex].stream()
+                        .sorted(Comparator.comparing(Todo::isComplete)
+                                .thenComparing(Todo::getCreatedAt, Comparator.reverseOrder())
+                                .thenComparing(Todo::getId, Comparator.reverseOrder()))
+                        .map(Todo::getId)
+                        .toList();
+
+                List<Long> result = new ArrayList<>();
+                for (boolean complete : new boolean[]{false, true}) {
+                    List<TodoView> page = todoRepository.findPageByMemberId(memberId, complete, PageRequest.of(0, size));
+                    while (!page.isEmpty()) {
+                        page.forEach(todo -> result.add(todo.todoId()));
+                        TodoView last = page.get(page.size() - 1);
+                        page = todoRepository.findPageByMemberIdAfter(memberId, complete, last.createdAt(), last.todoId(), PageRequest.of(0, size));
+                    }
+                }
 
+                assertThat(result).isEqualTo(expected);
+            }
+
+            @Test
+            @DisplayName("2. 없는 Id로 불러옴")
+            public void notExistMember() {
+                List<TodoView> todos = todoRepository.findPageByMemberId("notExistUser", false, PageRequest.of(0, 10));
+
+                assertThat(todos.isEmpty()).isTrue();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("countDailyByMemberId")
+    public class CountDailyByMemberIdTest {
         /**
-         * 성공케이스
-         * 1. 저장된 모든 Todo들을 불러옴 v
+         * 성공 케이스
+         * 1. 오늘 저장한 todo의 개수와 완료 개수 v
+         * 2. 기간에 포함되지 않는 todo는 집계하지 않음 v
          */
         @Nested
         @DisplayName("success")
         public class Success {
             @Test
-            @DisplayName("1. 저장된 모든 Todo들을 불러옴")
-            public void findAllSuccess() {
-                for (int i = 0; i < MEMBER_SIZE; i++) {
-                    Member member = memberList.get(i);
+            @DisplayName("1. 오늘 저장한 todo의 개수와 완료 개수")
+            public void countTodayTest() {
+                int mIndex = 0;
+                LocalDate today = LocalDate.now();
+
+                List<TodoDailyCount> counts = todoRepository.countDailyByMemberId(memberList.get(mIndex).getId(),
+                        today.atStartOfDay(), today.plusDays(1).atStartOfDay());
 
-                    List<Todo> todos = todoRepository.findTodosWithCategoriesByMemberId(member.getId());
+                long completed = todoList[mIndex].stream().filter(Todo::isComplete).count();
+                assertAll(
+                        () -> assertThat(counts.size()).isEqualTo(1),
+                        () -> assertThat(counts.get(0).date()).isEqualTo(today),
+                        () -> assertThat(counts.get(0).total()).isEqualTo((long) todoList[mIndex].size()),
+                        () -> assertThat(counts.get(0).completed()).isEqualTo(completed)
+                );
+            }
 
-                    assertThat(todos.size()).isEqualTo(todoList[i].size());//사이즈가 일치해야함
+            @Test
+            @DisplayName("2. 기간에 포함되지 않는 todo는 집계하지 않음")
+            public void outOfRangeTest() {
+                LocalDate tomorrow = LocalDate.now().plusDays(1);
 
-                    for (int j = 0; j < todos.size(); j++) {
-                        Todo todo = todos.get(j);
-                        assertThat(todoList[i].contains(todo)).isTrue();
-                    }
-                }
+                List<TodoDailyCount> counts = todoRepository.countDailyByMemberId(memberList.get(0).getId(),
+                        tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay());
+
+                assertThat(counts.isEmpty()).isTrue();
             }
         }
+    }
 
+    @Nested
+    @DisplayName("ownership checked update")
+    public class OwnershipCheckedUpdateTest {
         /**
+         * 성공 케이스
+         * 1. 자신의 todo 내용 변경 v
+         * 2. 자신의 todo 완료 여부 변경 v
+         * 3. 자신의 todo 삭제 v
          * 실패 케이스
-         * 1. 없는 Id로 불러옴 v
+         * 1. 타인의 todo는 변경/삭제되지 않음 v
+         * 2. 없는 todo v
          */
         @Nested
-        @DisplayName("failure")
-        public class Failure {
+        @DisplayName("success")
+        public class Success {
             @Test
-            @DisplayName("1. 없는 Id로 불러옴")
-            public void notExistMember() {
-                Member notExistMember = Member.builder()
-                        .id("notExistUser")
-                        .build();
+            @DisplayName("1. 자신의 todo 내용 변경")
+            public void updateContentTest() {
+                Todo todo = todoList[0].get(0);
 
-                List<Todo> todos = todoRepository.findTodosWithCategoriesByMemberId(notExistMember.getId());
+                int affected = todoRepository.updateContent(todo.getId(), memberList.get(0).getId(), "updated", LocalDateTime.now());
 
-                assertThat(todos.isEmpty()).isTrue();
+                assertAll(
+                        () -> assertThat(affected).isEqualTo(1),
+                        () -> assertThat(todoRepository.findById(todo.getId()).get().getContent()).isEqualTo("updated")
+                );
+            }
+
+            @Test
+            @DisplayName("2. 자신의 todo 완료 여부 변경")
+            public void toggleCompleteTest() {
+                Todo todo = todoList[0].get(0);
+                boolean before = todo.isComplete();
+
+                int affected = todoRepository.toggleComplete(todo.getId(), memberList.get(0).getId(), LocalDateTime.now());
+
+                assertAll(
+                        () -> assertThat(affected).isEqualTo(1),
+                        () -> assertThat(todoRepository.findById(todo.getId()).get().isComplete()).isEqualTo(!before)
+                );
+            }
+
+            @Test
+            @DisplayName("3. 자신의 todo 삭제")
+            public void deleteTest() {
+                Todo todo = todoList[0].get(0);
+
+                int affected = todoRepository.deleteByIdAndMemberId(todo.getId(), memberList.get(0).getId());
+
+                assertAll(
+                        () -> assertThat(affected).isEqualTo(1),
+                        () -> assertThat(todoRepository.existsById(todo.getId())).isFalse()
+                );
+            }
+        }
+
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 타인의 todo는 변경/삭제되지 않음")
+            public void otherMemberTest() {
+                Todo todo = todoList[0].get(0);
+                String content = todo.getContent();
+                boolean complete = todo.isComplete();
+                String other = memberList.get(1).getId();
+
+                assertAll(
+                        () -> assertThat(todoRepository.updateContent(todo.getId(), other, "updated", LocalDateTime.now())).isEqualTo(0),
+                        () -> assertThat(todoRepository.toggleComplete(todo.getId(), other, LocalDateTime.now())).isEqualTo(0),
+                        () -> assertThat(todoRepository.deleteByIdAndMemberId(todo.getId(), other)).isEqualTo(0)
+                );
+                Todo found = todoRepository.findById(todo.getId()).get();
+                assertAll(
+                        () -> assertThat(found.getContent()).isEqualTo(content),
+                        () -> assertThat(found.isComplete()).isEqualTo(complete)
+                );
+            }
+
+            @Test
+            @DisplayName("2. 없는 todo")
+            public void notExistTodoTest() {
+                Long notExistId = 100000L;
+                String memberId = memberList.get(0).getId();
+
+                assertAll(
+                        () -> assertThat(todoRepository.updateContent(notExistId, memberId, "updated", LocalDateTime.now())).isEqualTo(0),
+                        () -> assertThat(todoRepository.toggleComplete(notExistId, memberId, LocalDateTime.now())).isEqualTo(0),
+                        () -> assertThat(todoRepository.deleteByIdAndMemberId(notExistId, memberId)).isEqualTo(0),
+                        () -> assertThat(todoRepository.existsById(notExistId)).isFalse()
+                );
             }
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("batch")
+    public class BatchTest {
+        /**
+         * 성공 케이스
+         * 1. 요청한 id 중 회원의 todo만 조회 v
+         * 2. 여러 todo의 완료 여부를 한번에 변경 v
+         * 3. 여러 todo를 한번에 삭제 v
+         */
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 요청한 id 중 회원의 todo만 조회")
+            public void findOwnedIdsTest() {
+                List<Long> mine = todoList[0].stream().map(Todo::getId).toList();
+                List<Long> requested = new ArrayList<>(mine);
+                requested.add(todoList[1].get(0).getId());
+
+                List<Long> owned = todoRepository.findIdsByIdInAndMemberId(requested, memberList.get(0).getId());
+
+                assertThat(new HashSet<>(owned)).isEqualTo(new HashSet<>(mine));
+            }
+
+            @Test
+            @DisplayName("2. 여러 todo의 완료 여부를 한번에 변경")
+            public void updateCompleteTest() {
+                List<Long> mine = todoList[0].stream().map(Todo::getId).toList();
+
+                int affected = todoRepository.updateCompleteByIdInAndMemberId(mine, memberList.get(0).getId(), true, LocalDateTime.now());
+
+                assertThat(affected).isEqualTo(mine.size());
+                for (Long todoId : mine) {
+                    assertThat(todoRepository.findById(todoId).get().isComplete()).isTrue();
+                }
+            }
+
+            @Test
+            @DisplayName("3. 여러 todo를 한번에 삭제")
+            public void deleteTest() {
+                List<Long> mine = todoList[0].stream().map(Todo::getId).toList();
+                List<Long> requested = new ArrayList<>(mine);
+                requested.add(todoList[1].get(0).getId());
+
+                int affected = todoRepository.deleteByIdInAndMemberId(requested, memberList.get(0).getId());
+
+                assertAll(
+                        () -> assertThat(affected).isEqualTo(mine.size()),
+                        () -> assertThat(todoRepository.findIdsByIdIn(mine).isEmpty()).isTrue(),
+                        () -> assertThat(todoRepository.existsById(todoList[1].get(0).getId())).isTrue()
+                );
+            }
+        }
+    }
+}
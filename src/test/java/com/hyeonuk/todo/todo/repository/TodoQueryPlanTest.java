@@ -0,0 +1,248 @@
+package com.hyeonuk.todo.todo.repository;
+
+import com.hyeonuk.todo.integ.explain.QueryPlans;
+import com.hyeonuk.todo.integ.explain.SqlCaptor;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.todo.entity.Category;
+import com.hyeonuk.todo.todo.entity.Todo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//repository 쿼리마다 EXPLAIN을 실행해서 index 없이 full scan 하거나 많은 행을 정렬하는 쿼리를 찾음
+//회원 한명의 데이터(todo 100개, 카테고리 30개)는 정렬해도 되지만 ROW_THRESHOLD를 넘게 읽거나 정렬하면 실패
+@DataJpaTest
+@Import(SqlCaptor.class)
+class TodoQueryPlanTest {
+    private static final int MEMBER_SIZE = 20;
+    private static final int TODO_SIZE = 100;
+    private static final int CATEGORY_SIZE = 30;
+    private static final long ROW_THRESHOLD = 200;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SqlCaptor sqlCaptor;
+
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+    private List<Todo> todos;
+    private List<Category> categories;
+
+    @BeforeEach
+    public void init() {
+        for (int m = 0; m < MEMBER_SIZE; m++) {
+            Member saved = memberRepository.save(Member.builder()
+                    .id("tester" + m)
+                    .name("tester" + m)
+                    .email("tester" + m + "@gmail.com")
+                    .password("1111")
+                    .build());
+
+            List<Category> savedCategories = new ArrayList<>();
+            for (int i = 0; i < CATEGORY_SIZE; i++) {
+                savedCategories.add(Category.builder()
+                        .title("title" + i)
+                        .member(saved)
+                        .build());
+            }
+            categoryRepository.saveAll(savedCategories);
+
+            List<Todo> savedTodos = new ArrayList<>();
+            for (int i = 0; i < TODO_SIZE; i++) {
+                savedTodos.add(Todo.builder()
+                        .member(saved)
+                        .category(i % 2 == 0 ? savedCategories.get(i % CATEGORY_SIZE) : null)
+                        .content("todo" + i)
+                        .complete(i % 3 == 0)
+                        .build());
+            }
+            todoRepository.saveAll(savedTodos);
+
+            if (m == 0) {
+                member = saved;
+                todos = savedTodos;
+                categories = savedCategories;
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    //query 실행 중에 나간 sql을 모아서 같은 connection으로 EXPLAIN
+    private void assertPlan(Executable query) throws Throwable {
+        List<SqlCaptor.CapturedStatement> statements = capture(query);
+
+        List<String> violations = em.unwrap(Session.class)
+                .doReturningWork(connection -> QueryPlans.violations(connection, statements, ROW_THRESHOLD));
+
+        assertThat(statements).isNotEmpty();
+        assertThat(violations).isEmpty();
+    }
+
+    private List<SqlCaptor.CapturedStatement> capture(Executable query) throws Throwable {
+        sqlCaptor.start();
+        try {
+            query.execute();
+            return sqlCaptor.stop();
+        } catch (Throwable e) {
+            sqlCaptor.stop();
+            throw e;
+        }
+    }
+
+    @Nested
+    @DisplayName("TodoRepository")
+    public class TodoQueryTest {
+        /**
+         * 1. export stream 조회 v
+         * 2. keyset 첫 페이지 조회 v
+         * 3. keyset 다음 페이지 조회 v
+         * 4. 달력 일별 집계 v
+         * 5. 내용 변경 v
+         * 6. 완료 토글 v
+         * 7. 단건 삭제 v
+         * 8. batch 소유자 확인 v
+         * 9. batch 완료 변경 v
+         * 10. batch 삭제 v
+         * 11. 카테고리 하위 todo 삭제 v
+         */
+        @Test
+        @DisplayName("1. export stream 조회")
+        public void streamTodoViewsTest() throws Throwable {
+            assertPlan(() -> {
+                try (Stream<TodoView> stream = todoRepository.streamTodoViewsByMemberId(member.getId())) {
+                    stream.count();
+                }
+            });
+        }
+
+        @Test
+        @DisplayName("2. keyset 첫 페이지 조회")
+        public void findPageTest() throws Throwable {
+            assertPlan(() -> todoRepository.findPageByMemberId(member.getId(), false, PageRequest.ofSize(21)));
+        }
+
+        @Test
+        @DisplayName("3. keyset 다음 페이지 조회")
+        public void findPageAfterTest() throws Throwable {
+            Todo last = todos.get(TODO_SIZE / 2);
+
+            assertPlan(() -> todoRepository.findPageByMemberIdAfter(member.getId(), last.isComplete(),
+                    last.getCreatedAt(), last.getId(), PageRequest.ofSize(21)));
+        }
+
+        @Test
+        @DisplayName("4. 달력 일별 집계")
+        public void countDailyTest() throws Throwable {
+            LocalDateTime now = LocalDateTime.now();
+
+            assertPlan(() -> todoRepository.countDailyByMemberId(member.getId(), now.minusDays(7), now.plusDays(1)));
+        }
+
+        @Test
+        @DisplayName("5. 내용 변경")
+        public void updateContentTest() throws Throwable {
+            assertPlan(() -> todoRepository.updateContent(todos.get(0).getId(), member.getId(), "updated", LocalDateTime.now()));
+        }
+
+        @Test
+        @DisplayName("6. 완료 토글")
+        public void toggleCompleteTest() throws Throwable {
+            assertPlan(() -> todoRepository.toggleComplete(todos.get(0).getId(), member.getId(), LocalDateTime.now()));
+        }
+
+        @Test
+        @DisplayName("7. 단건 삭제")
+        public void deleteTest() throws Throwable {
+            assertPlan(() -> todoRepository.deleteByIdAndMemberId(todos.get(0).getId(), member.getId()));
+        }
+
+        @Test
+        @DisplayName("8. batch 소유자 확인")
+        public void findIdsTest() throws Throwable {
+            List<Long> ids = todos.stream().limit(10).map(Todo::getId).toList();
+
+            assertPlan(() -> {
+                todoRepository.findIdsByIdInAndMemberId(ids, member.getId());
+                todoRepository.findIdsByIdIn(ids);
+                todoRepository.findAllByIdInAndMemberId(ids, member.getId());
+            });
+        }
+
+        @Test
+        @DisplayName("9. batch 완료 변경")
+        public void updateCompleteAllTest() throws Throwable {
+            List<Long> ids = todos.stream().limit(10).map(Todo::getId).toList();
+
+            assertPlan(() -> todoRepository.updateCompleteByIdInAndMemberId(ids, member.getId(), true, LocalDateTime.now()));
+        }
+
+        @Test
+        @DisplayName("10. batch 삭제")
+        public void deleteAllTest() throws Throwable {
+            List<Long> ids = todos.stream().limit(10).map(Todo::getId).toList();
+
+            assertPlan(() -> todoRepository.deleteByIdInAndMemberId(ids, member.getId()));
+        }
+
+        @Test
+        @DisplayName("11. 카테고리 하위 todo 삭제")
+        public void deleteByCategoryTest() throws Throwable {
+            assertPlan(() -> todoRepository.deleteAllByCategoryIdAndMemberId(categories.get(0).getId(), member.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("CategoryRepository")
+    public class CategoryQueryTest {
+        /**
+         * 1. 회원의 카테고리 조회 v
+         * 2. 회원의 카테고리 id, title 조회 v
+         * 3. 카테고리 삭제 v
+         */
+        @Test
+        @DisplayName("1. 회원의 카테고리 조회")
+        public void findByMemberTest() throws Throwable {
+            assertPlan(() -> categoryRepository.findByMember(member));
+        }
+
+        @Test
+        @DisplayName("2. 회원의 카테고리 id, title 조회")
+        public void findIdAndTitleTest() throws Throwable {
+            assertPlan(() -> categoryRepository.findIdAndTitleByMemberId(member.getId()));
+        }
+
+        @Test
+        @DisplayName("3. 카테고리 삭제")
+        public void deleteTest() throws Throwable {
+            //홀수번째 카테고리에는 todo가 없음
+            assertPlan(() -> categoryRepository.deleteByIdAndMemberId(categories.get(1).getId(), member.getId()));
+        }
+    }
+}
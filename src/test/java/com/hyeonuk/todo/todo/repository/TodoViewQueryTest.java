@@ -0,0 +1,112 @@
+package com.hyeonuk.todo.todo.repository;
+
+import com.hyeonuk.todo.member.entity.Authority;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.todo.entity.Category;
+import com.hyeonuk.todo.todo.entity.Todo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+//목록 조회 시 실행되는 sql 수와 영속성 컨텍스트에 올라가는 엔티티 수 검사
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TodoViewQueryTest {
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    private final int TODO_SIZE = 10;
+
+    @BeforeEach
+    public void init() {
+        Member member = Member.builder()
+                .id("tester")
+                .name("tester")
+                .email("tester@gmail.com")
+                .password("1111")
+                .build();
+        member.setRoles(new ArrayList<>(List.of(Authority.builder().name("ROLE_USER").build())));
+        memberRepository.save(member);
+
+        Category category = categoryRepository.save(Category.builder()
+                .title("title")
+                .member(member)
+                .build());
+        for (int i = 0; i < TODO_SIZE; i++) {
+            todoRepository.save(Todo.builder()
+                    .member(member)
+                    .category(i % 2 == 0 ? category : null)
+                    .content("todo" + i)
+                    .complete(i % 3 == 0)
+                    .build());
+        }
+
+        em.flush();
+        em.clear();
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    //미완료 todo 페이지와 완료된 todo 페이지를 이어서 한 회원의 todo를 모두 조회
+    private List<TodoView> findAllPages() {
+        List<TodoView> views = new ArrayList<>(todoRepository.findPageByMemberId("tester", false, PageRequest.ofSize(TODO_SIZE)));
+        views.addAll(todoRepository.findPageByMemberId("tester", true, PageRequest.ofSize(TODO_SIZE)));
+        return views;
+    }
+
+    @Test
+    @DisplayName("projection 페이지 조회는 sql 한번에 엔티티를 하나도 관리하지 않음")
+    public void projectionTest() {
+        List<TodoView> todos = todoRepository.findPageByMemberId("tester", false, PageRequest.ofSize(TODO_SIZE));
+
+        assertAll(
+                //i % 3 == 0 인 todo 4개는 완료
+                () -> assertThat(todos).hasSize(TODO_SIZE - 4),
+                () -> assertThat(statistics.getPrepareStatementCount()).isEqualTo(1),
+                () -> assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("projection 조회 결과가 엔티티 조회 결과와 같음")
+    public void sameAsEntityTest() {
+        List<TodoView> views = findAllPages();
+        List<Todo> todos = todoRepository.findAll();
+
+        assertThat(views.stream().map(TodoView::todoId).sorted().toList())
+                .isEqualTo(todos.stream().map(Todo::getId).sorted().toList());
+        for (Todo todo : todos) {
+            TodoView view = views.stream().filter(v -> v.todoId().equals(todo.getId())).findFirst().orElseThrow();
+            assertAll(
+                    () -> assertThat(view.content()).isEqualTo(todo.getContent()),
+                    () -> assertThat(view.complete()).isEqualTo(todo.isComplete()),
+                    () -> assertThat(view.categoryId()).isEqualTo(todo.getCategory() == null ? null : todo.getCategory().getId()),
+                    () -> assertThat(view.categoryTitle()).isEqualTo(todo.getCategory() == null ? null : todo.getCategory().getTitle())
+            );
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.hyeonuk.todo.todo.service;
+
+import com.hyeonuk.todo.todo.repository.CategoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheTest {
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private CategoryCache categoryCache;
+
+    //redis 서버 대신 사용할 저장소
+    private final Map<String, String> store = new HashMap<>();
+
+    //DB 대신 사용할 카테고리 목록. [id, title]
+    private final List<Object[]> rows = new ArrayList<>();
+
+    private final String userId = "tester1";
+
+    private final String versionKey = "category:version:" + userId;
+
+    @BeforeEach
+    public void init() {
+        rows.add(new Object[]{1L, "일반"});
+        rows.add(new Object[]{2L, "업무"});
+
+        lenient().when(categoryRepository.findIdAndTitleByMemberId(anyString())).thenAnswer(invocation -> List.copyOf(rows));
+
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.get(anyString())).thenAnswer(invocation ->
+                store.get(invocation.getArgument(0, String.class)));
+        //version 증가 script. key가 없으면 전달한 현재 시각부터 시작
+        lenient().when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(1);
+            return Long.parseLong(store.merge(keys.get(0), invocation.getArgument(2, String.class),
+                    (old, now) -> Long.toString(Long.parseLong(old) + 1)));
+        });
+        //이미 변경된 적이 있는 회원
+        store.put(versionKey, "1");
+
+        categoryCache = new CategoryCache(1000, 60 * 1000, categoryRepository, redisTemplate, new SimpleMeterRegistry());
+    }
+
+    //다른 서버에서 카테고리를 변경한 경우
+    private void changedByOtherServer() {
+        rows.add(new Object[]{3L, "개인"});
+        store.merge(versionKey, "1", (old, one) -> Long.toString(Long.parseLong(old) + 1));
+    }
+
+    /**
+     * 성공케이스
+     * 1. version이 같으면 DB는 한번만 조회 v
+     * 2. 다른 서버에서 version을 올리면 DB를 다시 조회 v
+     * 3. 추가/수정/삭제는 DB 조회 없이 cache에 반영 v
+     * 4. 트랜잭션 중이면 commit 후에 반영 v
+     * 5. version key가 만료된 뒤 다시 변경되어도 이전 version의 목록을 사용하지 않음 v
+     * 실패케이스
+     * 1. 다른 변경이 섞인 경우 반영하지 않고 다시 조회 v
+     * 2. redis 오류 시 DB에서 조회 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. version이 같으면 DB는 한번만 조회")
+        public void hitTest() {
+            //when
+            categoryCache.findAll(userId);
+            List<CategoryCache.CategoryItem> categories = categoryCache.findAll(userId);
+
+            //then
+            assertThat(categories).extracting(CategoryCache.CategoryItem::title).containsExactly("일반", "업무");
+            assertThat(categoryCache.isOwner(userId, 2L)).isTrue();
+            assertThat(categoryCache.isOwner(userId, 3L)).isFalse();
+            verify(categoryRepository, times(1)).findIdAndTitleByMemberId(userId);
+        }
+
+        @Test
+        @DisplayName("2. 다른 서버에서 version을 올리면 DB를 다시 조회")
+        public void versionChangedTest() {
+            //given
+            categoryCache.findAll(userId);
+
+            //when
+            changedByOtherServer();
+
+            //then
+            assertThat(categoryCache.isOwner(userId, 3L)).isTrue();
+            verify(categoryRepository, times(2)).findIdAndTitleByMemberId(userId);
+        }
+
+        @Test
+        @DisplayName("3. 추가/수정/삭제는 DB 조회 없이 cache에 반영")
+        public void writeThroughTest() {
+            //given
+            categoryCache.findAll(userId);
+
+            //when
+            categoryCache.added(userId, new CategoryCache.CategoryItem(3L, "개인"));
+            categoryCache.updated(userId, new CategoryCache.CategoryItem(1L, "기본"));
+            categoryCache.removed(userId, 2L);
+
+            //then
+            assertThat(categoryCache.findAll(userId)).containsExactly(
+                    new CategoryCache.CategoryItem(1L, "기본"),
+                    new CategoryCache.CategoryItem(3L, "개인"));
+            assertThat(store.get(versionKey)).isEqualTo("4");
+            verify(categoryRepository, times(1)).findIdAndTitleByMemberId(userId);
+        }
+
+        @Test
+        @DisplayName("4. 트랜잭션 중이면 commit 후에 반영")
+        public void afterCommitTest() {
+            //given
+            categoryCache.findAll(userId);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                //when
+                categoryCache.added(userId, new CategoryCache.CategoryItem(3L, "개인"));
+
+                //then
+                assertThat(categoryCache.isOwner(userId, 3L)).isFalse();
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                assertThat(categoryCache.isOwner(userId, 3L)).isTrue();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("5. version key가 만료된 뒤 다시 변경되어도 이전 version의 목록을 사용하지 않음")
+        public void versionExpiredTest() {
+            //given
+            categoryCache.findAll(userId);
+            store.remove(versionKey);
+
+            //when
+            //다른 서버에서 만료 후 처음으로 변경
+            CategoryCache otherServer = new CategoryCache(1000, 60 * 1000, categoryRepository, redisTemplate, new SimpleMeterRegistry());
+            rows.add(new Object[]{3L, "개인"});
+            otherServer.added(userId, new CategoryCache.CategoryItem(3L, "개인"));
+
+            //then
+            assertThat(Long.parseLong(store.get(versionKey))).isGreaterThan(1);
+            assertThat(categoryCache.isOwner(userId, 3L)).isTrue();
+            verify(categoryRepository, times(2)).findIdAndTitleByMemberId(userId);
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 다른 변경이 섞인 경우 반영하지 않고 다시 조회")
+        public void concurrentChangeTest() {
+            //given
+            categoryCache.findAll(userId);
+            changedByOtherServer();
+
+            //when
+            categoryCache.removed(userId, 1L);
+            rows.remove(0);
+
+            //then
+            assertThat(categoryCache.findAll(userId)).extracting(CategoryCache.CategoryItem::id).containsExactly(2L, 3L);
+            verify(categoryRepository, times(2)).findIdAndTitleByMemberId(userId);
+        }
+
+        @Test
+        @DisplayName("2. redis 오류 시 DB에서 조회")
+        public void redisFailTest() {
+            //given
+            when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+
+            //when
+            categoryCache.findAll(userId);
+            List<CategoryCache.CategoryItem> categories = categoryCache.findAll(userId);
+
+            //then
+            assertThat(categories).hasSize(2);
+            verify(categoryRepository, times(2)).findIdAndTitleByMemberId(userId);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.hyeonuk.todo.integ.util.StringUtils;
 import com.hyeonuk.todo.member.entity.Member;
 import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
 import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
 import com.hyeonuk.todo.todo.dto.CategoryDeleteDTO;
 import com.hyeonuk.todo.todo.dto.CategorySaveDTO;
 import com.hyeonuk.todo.todo.dto.CategoryUpdateDTO;
@@ -27,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.lang.reflect.Field;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -48,6 +50,10 @@ public class CategoryServiceImplTest {
     private TodoRepository todoRepository;
     @Mock
     private CategoryRepository categoryRepository;
+    @Mock
+    private MemberSnapshotCache memberSnapshotCache;
+    @Mock
+    private CategoryCache categoryCache;
 
     private List<Todo> todoList = new ArrayList<>();
     private List<Category> categoryList = new ArrayList<>();
@@ -61,6 +67,31 @@ public class CategoryServiceImplTest {
     public void init() {
         //memberRepository mocking
         lenient().when(memberRepository.findAll()).thenReturn(memberList);
+        lenient().when(memberRepository.getReferenceById(anyString())).thenAnswer(invocation -> {
+            String userId = invocation.getArgument(0, String.class);
+
+            return memberList.stream()
+                    .filter(m -> m.getId().equals(userId))
+                    .findFirst()
+                    .orElseThrow();
+        });
+
+        //categoryCache mocking
+        lenient().when(categoryCache.isOwner(anyString(), anyLong())).thenAnswer(invocation -> {
+            String userId = invocation.getArgument(0, String.class);
+            Long categoryId = invocation.getArgument(1, Long.class);
+
+            return categoryList.stream()
+                    .anyMatch(c -> c.getId().equals(categoryId) && c.getMember().getId().equals(userId));
+        });
+
+        //memberSnapshotCache mocking
+        lenient().when(memberSnapshotCache.exists(anyString())).thenAnswer(invocation -> {
+            String userId = invocation.getArgument(0, String.class);
+
+            return memberList.stream()
+                    .anyMatch(m -> m.getId().equals(userId));
+        });
         lenient().when(memberRepository.findById(anyString())).thenAnswer(invocation -> {
             String userId = invocation.getArgument(0, String.class);
 
@@ -126,25 +157,37 @@ public class CategoryServiceImplTest {
             categoryList.add(category);
             return category;
         });
-        lenient().doAnswer(invocation -> {
-            Long id = invocation.getArgument(0,Long.class);
+        lenient().when(categoryRepository.existsById(anyLong())).thenAnswer(invocation -> {
+            Long categoryId = invocation.getArgument(0, Long.class);
+
+            return categoryList.stream()
+                    .anyMatch(c -> c.getId().equals(categoryId));
+        });
+        lenient().when(categoryRepository.updateTitle(anyLong(), anyString(), anyString(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            Long categoryId = invocation.getArgument(0, Long.class);
+            String userId = invocation.getArgument(1, String.class);
+            String title = invocation.getArgument(2, String.class);
+            List<Category> targets = categoryList.stream()
+                    .filter(c -> c.getId().equals(categoryId) && c.getMember().getId().equals(userId))
+                    .toList();
+            targets.forEach(c -> c.updateTitle(title));
+
+            return targets.size();
+        });
+        lenient().when(categoryRepository.deleteByIdAndMemberId(anyLong(), anyString())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0, Long.class);
+            String userId = invocation.getArgument(1, String.class);
+            int before = categoryList.size();
             categoryList = categoryList.stream()
-                    .filter(c->!c.getId().equals(id))
+                    .filter(c -> !(c.getId().equals(id) && c.getMember().getId().equals(userId)))
                     .collect(Collectors.toList());
 
-            return null;
-        }).when(categoryRepository).deleteById(anyLong());
+            return before - categoryList.size();
+        });
 
         //todoRepository mocking
         lenient().when(todoRepository.findAll()).thenReturn(todoList);
 
-        lenient().doAnswer(invocation -> {
-            Category category = invocation.getArgument(0, Category.class);
-            todoList.stream()
-                    .filter(t -> t.getCategory().getId().equals(category.getId()))
-                    .collect(Collectors.toList());
-            return null;
-        }).when(todoRepository).deleteAllByCategory(any(Category.class));
         lenient().when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> {
             Todo todo = invocation.getArgument(0, Todo.class);
 
@@ -161,15 +204,16 @@ public class CategoryServiceImplTest {
             todoList.add(todo);
             return todo;
         });
-        lenient().doAnswer(invocation -> {
-            Category category = invocation.getArgument(0,Category.class);
-
+        lenient().when(todoRepository.deleteAllByCategoryIdAndMemberId(anyLong(), anyString())).thenAnswer(invocation -> {
+            Long categoryId = invocation.getArgument(0, Long.class);
+            String userId = invocation.getArgument(1, String.class);
+            int before = todoList.size();
             todoList = todoList.stream()
-                    .filter(t->!t.getCategory().getId().equals(category.getId()))
+                    .filter(t -> !(t.getCategory().getId().equals(categoryId) && t.getMember().getId().equals(userId)))
                     .collect(Collectors.toList());
 
-            return null;
-        }).when(todoRepository).deleteAllByCategory(any(Category.class));
+            return before - todoList.size();
+        });
     }
 
     @BeforeEach
@@ -385,10 +429,9 @@ public class CategoryServiceImplTest {
 
                 //then
                 assertThat(categoryRepository.findByMember(member).contains(target)).isFalse();
-                List<Todo> todos = todoRepository.findTodosWithCategoriesByMemberId(member.getId());
-                todos.stream().forEach(t->{
-                    assertThat(t.getCategory().getId()!=target.getId());
-                });
+                todoList.stream()
+                        .filter(t -> t.getMember().getId().equals(member.getId()))
+                        .forEach(t -> assertThat(t.getCategory().getId()).isNotEqualTo(target.getId()));
             }
         }
 
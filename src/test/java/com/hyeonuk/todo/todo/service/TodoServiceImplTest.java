@@ -0,0 +1,844 @@
+package com.hyeonuk.todo.todo.service;
+
+import com.hyeonuk.todo.integ.exception.NotFoundException;
+import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
+import com.hyeonuk.todo.todo.dto.TodoBatchCompleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoBatchDeleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoBatchUpdateDTO;
+import com.hyeonuk.todo.todo.dto.TodoCalendarDTO;
+import com.hyeonuk.todo.todo.dto.TodoDeleteDTO;
+import com.hyeonuk.todo.todo.dto.TodoListDTO;
+import com.hyeonuk.todo.todo.dto.TodoToggleDTO;
+import com.hyeonuk.todo.todo.dto.TodoUpdateDTO;
+import com.hyeonuk.todo.todo.entity.Category;
+import com.hyeonuk.todo.todo.entity.Todo;
+import com.hyeonuk.todo.todo.exception.TodoException;
+import com.hyeonuk.todo.todo.repository.CategoryRepository;
+import com.hyeonuk.todo.todo.repository.TodoDailyCount;
+import com.hyeonuk.todo.todo.repository.TodoRepository;
+import com.hyeonuk.todo.todo.repository.TodoView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoServiceImplTest {
+    @InjectMocks
+    private TodoServiceImpl todoService;
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private MemberSnapshotCache memberSnapshotCache;
+    @Mock
+    private CategoryCache categoryCache;
+
+    private List<Todo> todoList = new ArrayList<>();
+    private List<Member> memberList = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        //todoRepository mocking
+        lenient().when(todoRepository.existsById(anyLong())).thenAnswer(invocation -> {
+            Long todoId = invocation.getArgument(0, Long.class);
+
+            return todoList.stream().anyMatch(t -> t.getId().equals(todoId));
+        });
+        lenient().when(todoRepository.findIdsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> todoIds = invocation.getArgument(0);
+
+            return todoList.stream()
+                    .map(Todo::getId)
+                    .filter(todoIds::contains)
+                    .collect(Collectors.toList());
+        });
+        lenient().when(todoRepository.findIdsByIdInAndMemberId(anyCollection(), anyString())).thenAnswer(invocation ->
+                owned(invocation.getArgument(0), invocation.getArgument(1)).stream()
+                        .map(Todo::getId)
+                        .collect(Collectors.toList()));
+        lenient().when(todoRepository.findAllByIdInAndMemberId(anyCollection(), anyString())).thenAnswer(invocation ->
+                owned(invocation.getArgument(0), invocation.getArgument(1)));
+        lenient().when(todoRepository.updateCompleteByIdInAndMemberId(anyCollection(), anyString(), anyBoolean(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            List<Todo> targets = owned(invocation.getArgument(0), invocation.getArgument(1));
+            targets.forEach(t -> ReflectionTestUtils.setField(t, "complete", invocation.getArgument(2)));
+
+            return targets.size();
+        });
+        lenient().when(todoRepository.deleteByIdInAndMemberId(anyCollection(), anyString())).thenAnswer(invocation -> {
+            List<Todo> targets = owned(invocation.getArgument(0), invocation.getArgument(1));
+            todoList.removeAll(targets);
+
+            return targets.size();
+        });
+        lenient().when(todoRepository.updateContent(anyLong(), anyString(), anyString(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            List<Todo> targets = owned(List.of(invocation.getArgument(0, Long.class)), invocation.getArgument(1));
+            targets.forEach(t -> t.updateContent(invocation.getArgument(2, String.class)));
+
+            return targets.size();
+        });
+        lenient().when(todoRepository.toggleComplete(anyLong(), anyString(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            List<Todo> targets = owned(List.of(invocation.getArgument(0, Long.class)), invocation.getArgument(1));
+            targets.forEach(Todo::toggleComplete);
+
+            return targets.size();
+        });
+        lenient().when(todoRepository.deleteByIdAndMemberId(anyLong(), anyString())).thenAnswer(invocation -> {
+            List<Todo> targets = owned(List.of(invocation.getArgument(0, Long.class)), invocation.getArgument(1));
+            todoList.removeAll(targets);
+
+            return targets.size();
+        });
+    }
+
+    //회원 두명이 각각 5개씩 todo를 가짐. tester0 : 1~5, tester1 : 6~10
+    @BeforeEach
+    public void insertDummies() {
+        long todoId = 1;
+        for (int i = 0; i < 2; i++) {
+            Member member = Member.builder()
+                    .id("tester".concat(Integer.toString(i)))
+                    .email("tester".concat(Integer.toString(i)).concat("@gmail.com"))
+                    .password("1111")
+                    .name("tester".concat(Integer.toString(i)))
+                    .build();
+            memberList.add(member);
+
+            Category category = Category.builder()
+                    .id((long) i + 1)
+                    .member(member)
+                    .title("일반")
+                    .build();
+            for (int j = 0; j < 5; j++) {
+                todoList.add(Todo.builder()
+                        .id(todoId++)
+                        .member(member)
+                        .category(category)
+                        .content("content".concat(Integer.toString(j)))
+                        .build());
+            }
+        }
+    }
+
+    private List<Todo> owned(Collection<Long> todoIds, String userId) {
+        return todoList.stream()
+                .filter(t -> todoIds.contains(t.getId()) && t.getMember().getId().equals(userId))
+                .collect(Collectors.toList());
+    }
+
+    private Todo findTodo(Long todoId) {
+        return todoList.stream()
+                .filter(t -> t.getId().equals(todoId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+    }
+
+    private TodoView view(long todoId, boolean complete, LocalDateTime createdAt) {
+        return new TodoView(todoId, "content" + todoId, complete, 1L, "일반", createdAt);
+    }
+
+    @Nested
+    @DisplayName("updateAllTest")
+    public class UpdateAllTest {
+        /**
+         * 성공 케이스
+         * 1. 여러 todo의 내용을 한번에 변경 v
+         * 2. 내용의 태그 문자는 xss filter와 같이 치환해서 저장 v
+         */
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 여러 todo의 내용을 한번에 변경")
+            public void updateAllSuccessTest() throws ValidationException, NotFoundException, TodoException {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "updated1"), new TodoBatchUpdateDTO.Change(2L, "updated2")))
+                        .build();
+
+                //when
+                TodoBatchUpdateDTO.Response result = todoService.updateAll(dto);
+
+                //then
+                assertThat(result.getTodoIds()).containsExactly(1L, 2L);
+                assertThat(findTodo(1L).getContent()).isEqualTo("updated1");
+                assertThat(findTodo(2L).getContent()).isEqualTo("updated2");
+                verify(todoRepository, never()).findIdsByIdIn(anyCollection());
+                verify(todoRepository).flush();
+            }
+
+            @Test
+            @DisplayName("2. 내용의 태그 문자는 xss filter와 같이 치환해서 저장")
+            public void escapeTest() throws ValidationException, NotFoundException, TodoException {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "<script>alert(1)</script>")))
+                        .build();
+
+                //when
+                todoService.updateAll(dto);
+
+                //then
+                assertThat(findTodo(1L).getContent()).isEqualTo("&lt;script&gt;alert&#40;1&#41;&lt;/script&gt;");
+            }
+        }
+
+        /**
+         * 실패 케이스
+         * 1. MAX_BATCH_SIZE(100)개 초과 v
+         * 2. 같은 todo를 중복해서 변경 v
+         * 3. 내용이 200자 초과 v
+         * 4. 존재하지 않는 todo가 포함되면 NotFound, 아무것도 변경하지 않음 v
+         * 5. 타인의 todo가 포함되면 Validation, 내 todo도 변경하지 않음 v
+         * 6. 치환한 뒤의 내용이 200자 초과 v
+         * 7. flush 중 DB 오류가 나면 TodoException v
+         */
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. MAX_BATCH_SIZE(100)개 초과")
+            public void maxBatchSizeTest() {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(ids(1, 101).stream()
+                                .map(id -> new TodoBatchUpdateDTO.Change(id, "updated"))
+                                .collect(Collectors.toList()))
+                        .build();
+
+                //when
+                String message = assertThrows(ValidationException.class, () -> todoService.updateAll(dto)).getMessage();
+
+                //then
+                assertThat(message).isEqualTo("입력값을 확인해주세요");
+                verify(todoRepository, never()).findAllByIdInAndMemberId(anyCollection(), anyString());
+            }
+
+            @Test
+            @DisplayName("2. 같은 todo를 중복해서 변경")
+            public void duplicateIdTest() {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "updated1"), new TodoBatchUpdateDTO.Change(1L, "updated2")))
+                        .build();
+
+                //when
+                String message = assertThrows(ValidationException.class, () -> todoService.updateAll(dto)).getMessage();
+
+                //then
+                assertThat(message).isEqualTo("같은 Todo를 중복해서 변경할 수 없습니다.");
+                assertThat(findTodo(1L).getContent()).isEqualTo("content0");
+            }
+
+            @Test
+            @DisplayName("3. 내용이 200자 초과")
+            public void contentLengthTest() {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "a".repeat(Todo.CONTENT_MAX_LENGTH + 1))))
+                        .build();
+
+                //when & then
+                assertThrows(ValidationException.class, () -> todoService.updateAll(dto));
+            }
+
+            @Test
+            @DisplayName("4. 존재하지 않는 todo가 포함되면 NotFound, 아무것도 변경하지 않음")
+            public void notFoundTest() {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "updated1"), new TodoBatchUpdateDTO.Change(999L, "updated2")))
+                        .build();
+
+                //when
+                assertThrows(NotFoundException.class, () -> todoService.updateAll(dto));
+
+                //then
+                assertThat(findTodo(1L).getContent()).isEqualTo("content0");
+            }
+
+            @Test
+            @DisplayName("5. 타인의 todo가 포함되면 Validation, 내 todo도 변경하지 않음")
+            public void partialOwnershipTest() {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "updated1"), new TodoBatchUpdateDTO.Change(6L, "updated6")))
+                        .build();
+
+                //when
+                String message = assertThrows(ValidationException.class, () -> todoService.updateAll(dto)).getMessage();
+
+                //then
+                assertThat(message).isEqualTo("타인의 Todo는 업데이트가 불가능합니다.");
+                assertThat(findTodo(1L).getContent()).isEqualTo("content0");
+                assertThat(findTodo(6L).getContent()).isEqualTo("content0");
+            }
+
+            @Test
+            @DisplayName("6. 치환한 뒤의 내용이 200자 초과")
+            public void escapedContentLengthTest() {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "a".repeat(Todo.CONTENT_MAX_LENGTH - 1) + "<")))
+                        .build();
+
+                //when & then
+                assertThrows(ValidationException.class, () -> todoService.updateAll(dto));
+            }
+
+            @Test
+            @DisplayName("7. flush 중 DB 오류가 나면 TodoException")
+            public void flushFailTest() {
+                //given
+                TodoBatchUpdateDTO.Request dto = TodoBatchUpdateDTO.Request.builder()
+                        .userId("tester0")
+                        .changes(List.of(new TodoBatchUpdateDTO.Change(1L, "updated1")))
+                        .build();
+                doThrow(new DataIntegrityViolationException("constraint violation")).when(todoRepository).flush();
+
+                //when
+                String message = assertThrows(TodoException.class, () -> todoService.updateAll(dto)).getMessage();
+
+                //then
+                assertThat(message).isEqualTo("todo 업데이트 오류");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("completeAllTest")
+    public class CompleteAllTest {
+        /**
+         * 성공 케이스
+         * 1. 여러 todo의 완료 여부를 한번에 변경 v
+         * 2. 같은 아이디가 여러번 들어오면 한번만 처리 v
+         * 3. MAX_BATCH_SIZE(100)개까지 요청 가능 v
+         */
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 여러 todo의 완료 여부를 한번에 변경")
+            public void completeAllSuccessTest() throws ValidationException, NotFoundException, TodoException {
+                //given
+                TodoBatchCompleteDTO.Request dto = new TodoBatchCompleteDTO.Request("tester0", List.of(1L, 2L, 3L), true);
+
+                //when
+                TodoBatchCompleteDTO.Response result = todoService.completeAll(dto);
+
+                //then
+                assertThat(result.isComplete()).isTrue();
+                assertThat(result.getTodoIds()).containsExactly(1L, 2L, 3L);
+                assertThat(findTodo(1L).isComplete()).isTrue();
+                assertThat(findTodo(3L).isComplete()).isTrue();
+                assertThat(findTodo(4L).isComplete()).isFalse();
+            }
+
+            @Test
+            @DisplayName("2. 같은 아이디가 여러번 들어오면 한번만 처리")
+            public void duplicateIdTest() throws ValidationException, NotFoundException, TodoException {
+                //given
+                TodoBatchCompleteDTO.Request dto = new TodoBatchCompleteDTO.Request("tester0", List.of(1L, 2L, 1L), true);
+
+                //when
+                TodoBatchCompleteDTO.Response result = todoService.completeAll(dto);
+
+                //then
+                assertThat(result.getTodoIds()).containsExactly(1L, 2L);
+            }
+
+            @Test
+            @DisplayName("3. MAX_BATCH_SIZE(100)개까지 요청 가능")
+            public void maxBatchSizeTest() throws ValidationException, NotFoundException, TodoException {
+                //given
+                Member member = memberList.get(0);
+                for (long id = 11; id <= 105; id++) {
+                    todoList.add(Todo.builder().id(id).member(member).content("content").build());
+                }
+                List<Long> todoIds = new ArrayList<>(ids(1, 5));
+                todoIds.addAll(ids(11, 105));
+
+                //when
+                TodoBatchCompleteDTO.Response result = todoService.completeAll(new TodoBatchCompleteDTO.Request("tester0", todoIds, true));
+
+                //then
+                assertThat(result.getTodoIds()).hasSize(100);
+            }
+        }
+
+        /**
+         * 실패 케이스
+         * 1. MAX_BATCH_SIZE(100)개 초과 v
+         * 2. 아이디 목록이 비어있거나 null 포함 v
+         * 3. 완료 여부 null v
+         * 4. 존재하지 않는 todo가 포함되면 NotFound, update하지 않음 v
+         * 5. 타인의 todo가 포함되면 Validation, update하지 않음 v
+         */
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. MAX_BATCH_SIZE(100)개 초과")
+            public void maxBatchSizeTest() {
+                //given
+                TodoBatchCompleteDTO.Request dto = new TodoBatchCompleteDTO.Request("tester0", ids(1, 101), true);
+
+                //when & then
+                assertThrows(ValidationException.class, () -> todoService.completeAll(dto));
+                verify(todoRepository, never()).findIdsByIdInAndMemberId(anyCollection(), anyString());
+            }
+
+            @Test
+            @DisplayName("2. 아이디 목록이 비어있거나 null 포함")
+            public void emptyIdsTest() {
+                //given
+                List<Long> withNull = new ArrayList<>(List.of(1L));
+                withNull.add(null);
+
+                //when & then
+                assertThrows(ValidationException.class, () -> todoService.completeAll(new TodoBatchCompleteDTO.Request("tester0", List.of(), true)));
+                assertThrows(ValidationException.class, () -> todoService.completeAll(new TodoBatchCompleteDTO.Request("tester0", null, true)));
+                assertThrows(ValidationException.class, () -> todoService.completeAll(new TodoBatchCompleteDTO.Request("tester0", withNull, true)));
+            }
+
+            @Test
+            @DisplayName("3. 완료 여부 null")
+            public void completeNullTest() {
+                assertThrows(ValidationException.class, () -> todoService.completeAll(new TodoBatchCompleteDTO.Request("tester0", List.of(1L), null)));
+            }
+
+            @Test
+            @DisplayName("4. 존재하지 않는 todo가 포함되면 NotFound, update하지 않음")
+            public void notFoundTest() {
+                //given
+                TodoBatchCompleteDTO.Request dto = new TodoBatchCompleteDTO.Request("tester0", List.of(1L, 999L), true);
+
+                //when
+                String message = assertThrows(NotFoundException.class, () -> todoService.completeAll(dto)).getMessage();
+
+                //then
+                assertThat(message).isEqualTo("해당 todo를 찾을 수 없습니다.");
+                verify(todoRepository, never()).updateCompleteByIdInAndMemberId(anyCollection(), anyString(), anyBoolean(), any(LocalDateTime.class));
+                assertThat(findTodo(1L).isComplete()).isFalse();
+            }
+
+            @Test
+            @DisplayName("5. 타인의 todo가 포함되면 Validation, update하지 않음")
+            public void partialOwnershipTest() {
+                //given
+                TodoBatchCompleteDTO.Request dto = new TodoBatchCompleteDTO.Request("tester0", List.of(1L, 6L), true);
+
+                //when
+                String message = assertThrows(ValidationException.class, () -> todoService.completeAll(dto)).getMessage();
+
+                //then
+                assertThat(message).isEqualTo("타인의 Todo는 업데이트가 불가능합니다.");
+                verify(todoRepository, never()).updateCompleteByIdInAndMemberId(anyCollection(), anyString(), anyBoolean(), any(LocalDateTime.class));
+                assertThat(findTodo(1L).isComplete()).isFalse();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteAllTest")
+    public class DeleteAllTest {
+        /**
+         * 성공 케이스
+         * 1. 여러 todo를 한번에 삭제 v
+         */
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 여러 todo를 한번에 삭제")
+            public void deleteAllSuccessTest() throws ValidationException, NotFoundException, TodoException {
+                //when
+                TodoBatchDeleteDTO.Response result = todoService.deleteAll(new TodoBatchDeleteDTO.Request("tester0", List.of(1L, 2L)));
+
+                //then
+                assertThat(result.getTodoIds()).containsExactly(1L, 2L);
+                assertThat(todoList).extracting(Todo::getId).doesNotContain(1L, 2L);
+                assertThat(todoList).hasSize(8);
+            }
+        }
+
+        /**
+         * 실패 케이스
+         * 1. MAX_BATCH_SIZE(100)개 초과 v
+         * 2. 존재하지 않는 todo가 포함되면 NotFound, 아무것도 삭제하지 않음 v
+         * 3. 타인의 todo가 포함되면 Validation, 아무것도 삭제하지 않음 v
+         */
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. MAX_BATCH_SIZE(100)개 초과")
+            public void maxBatchSizeTest() {
+                assertThrows(ValidationException.class, () -> todoService.deleteAll(new TodoBatchDeleteDTO.Request("tester0", ids(1, 101))));
+                assertThat(todoList).hasSize(10);
+            }
+
+            @Test
+            @DisplayName("2. 존재하지 않는 todo가 포함되면 NotFound, 아무것도 삭제하지 않음")
+            public void notFoundTest() {
+                assertThrows(NotFoundException.class, () -> todoService.deleteAll(new TodoBatchDeleteDTO.Request("tester0", List.of(1L, 999L))));
+                verify(todoRepository, never()).deleteByIdInAndMemberId(anyCollection(), anyString());
+                assertThat(todoList).hasSize(10);
+            }
+
+            @Test
+            @DisplayName("3. 타인의 todo가 포함되면 Validation, 아무것도 삭제하지 않음")
+            public void partialOwnershipTest() {
+                //when
+                String message = assertThrows(ValidationException.class,
+                        () -> todoService.deleteAll(new TodoBatchDeleteDTO.Request("tester0", List.of(1L, 6L)))).getMessage();
+
+                //then
+                assertThat(message).isEqualTo("타인의 Todo를 삭제할 수 없습니다.");
+                verify(todoRepository, never()).deleteByIdInAndMemberId(anyCollection(), anyString());
+                assertThat(todoList).hasSize(10);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("checkAffectedTest")
+    public class CheckAffectedTest {
+        /**
+         * 단건 update/toggle/delete는 변경된 행 수로 성공 여부를 판단
+         * 성공 케이스
+         * 1. 변경된 행이 있으면 존재 여부를 다시 조회하지 않음 v
+         * 2. toggle은 update 한번으로 끝나고 상태를 다시 조회하지 않음 v
+         */
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 변경된 행이 있으면 존재 여부를 다시 조회하지 않음")
+            public void updateSuccessTest() throws ValidationException, NotFoundException, TodoException, UserInfoNotFoundException {
+                //when
+                todoService.update(TodoUpdateDTO.Request.builder().userId("tester0").todoId(1L).content("updated").build());
+                todoService.delete(TodoDeleteDTO.Request.builder().userId("tester0").todoId(2L).build());
+
+                //then
+                assertThat(findTodo(1L).getContent()).isEqualTo("updated");
+                assertThat(todoList).extracting(Todo::getId).doesNotContain(2L);
+                verify(todoRepository, never()).existsById(anyLong());
+            }
+
+            @Test
+            @DisplayName("2. toggle은 update 한번으로 끝나고 상태를 다시 조회하지 않음")
+            public void toggleSuccessTest() throws ValidationException, NotFoundException, TodoException, UserInfoNotFoundException {
+                //given
+                boolean before = findTodo(1L).isComplete();
+
+                //when
+                TodoToggleDTO.Response result = todoService.toggle(TodoToggleDTO.Request.builder().userId("tester0").todoId(1L).build());
+
+                //then
+                assertThat(result.getTodoId()).isEqualTo(1L);
+                assertThat(findTodo(1L).isComplete()).isEqualTo(!before);
+                verify(todoRepository, times(1)).toggleComplete(anyLong(), anyString(), any(LocalDateTime.class));
+                verify(todoRepository, never()).existsById(anyLong());
+                verify(todoRepository, never()).findById(anyLong());
+            }
+        }
+
+        /**
+         * 실패 케이스
+         * 1. 존재하지 않는 todo는 NotFound v
+         * 2. 타인의 todo는 Validation v
+         */
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 존재하지 않는 todo는 NotFound")
+            public void notFoundTest() {
+                String updateMessage = assertThrows(NotFoundException.class, () -> todoService.update(
+                        TodoUpdateDTO.Request.builder().userId("tester0").todoId(999L).content("updated").build())).getMessage();
+                String toggleMessage = assertThrows(NotFoundException.class, () -> todoService.toggle(
+                        TodoToggleDTO.Request.builder().userId("tester0").todoId(999L).build())).getMessage();
+                String deleteMessage = assertThrows(NotFoundException.class, () -> todoService.delete(
+                        TodoDeleteDTO.Request.builder().userId("tester0").todoId(999L).build())).getMessage();
+
+                assertThat(updateMessage).isEqualTo("todo가 존재하지 않습니다.");
+                assertThat(toggleMessage).isEqualTo("해당 todo를 찾을 수 없습니다.");
+                assertThat(deleteMessage).isEqualTo("해당 todo를 찾을 수 없습니다.");
+            }
+
+            @Test
+            @DisplayName("2. 타인의 todo는 Validation")
+            public void notOwnerTest() {
+                String updateMessage = assertThrows(ValidationException.class, () -> todoService.update(
+                        TodoUpdateDTO.Request.builder().userId("tester0").todoId(6L).content("updated").build())).getMessage();
+                String toggleMessage = assertThrows(ValidationException.class, () -> todoService.toggle(
+                        TodoToggleDTO.Request.builder().userId("tester0").todoId(6L).build())).getMessage();
+                String deleteMessage = assertThrows(ValidationException.class, () -> todoService.delete(
+                        TodoDeleteDTO.Request.builder().userId("tester0").todoId(6L).build())).getMessage();
+
+                assertThat(updateMessage).isEqualTo("타인의 Todo는 업데이트가 불가능합니다.");
+                assertThat(toggleMessage).isEqualTo("타인의 Todo는 업데이트가 불가능합니다.");
+                assertThat(deleteMessage).isEqualTo("타인의 Todo를 삭제할 수 없습니다.");
+                assertThat(findTodo(6L).getContent()).isEqualTo("content0");
+                assertThat(todoList).hasSize(10);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("calendarTest")
+    public class CalendarTest {
+        /**
+         * 성공 케이스
+         * 1. 1일부터 말일까지 채우고 todo가 없는 날은 0 v
+         * 2. 윤년 2월은 29일까지, 조회 기간은 해당 월 1일 0시부터 다음달 1일 0시 전까지 v
+         */
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 1일부터 말일까지 채우고 todo가 없는 날은 0")
+            public void calendarSuccessTest() throws ValidationException, TodoException {
+                //given
+                when(todoRepository.countDailyByMemberId(eq("tester0"), any(LocalDateTime.class), any(LocalDateTime.class)))
+                        .thenReturn(List.of(
+                                new TodoDailyCount(LocalDate.of(2023, 2, 1), 3L, 1L),
+                                new TodoDailyCount(LocalDate.of(2023, 2, 28), 2L, 2L)));
+
+                //when
+                TodoCalendarDTO.Response result = todoService.calendar(new TodoCalendarDTO.Request("tester0", 2023, 2));
+
+                //then
+                assertThat(result.getYear()).isEqualTo(2023);
+                assertThat(result.getMonth()).isEqualTo(2);
+                assertThat(result.getDays()).hasSize(28);
+                assertThat(result.getDays()).extracting(TodoCalendarDTO.Day::getDay)
+                        .containsExactlyElementsOf(LongStream.rangeClosed(1, 28).mapToObj(d -> (int) d).toList());
+                assertThat(result.getDays().get(0).getTotal()).isEqualTo(3);
+                assertThat(result.getDays().get(0).getCompleted()).isEqualTo(1);
+                assertThat(result.getDays().get(14).getTotal()).isZero();
+                assertThat(result.getDays().get(27).getCompleted()).isEqualTo(2);
+            }
+
+            @Test
+            @DisplayName("2. 윤년 2월은 29일까지, 조회 기간은 해당 월 1일 0시부터 다음달 1일 0시 전까지")
+            public void leapYearTest() throws ValidationException, TodoException {
+                //when
+                TodoCalendarDTO.Response result = todoService.calendar(new TodoCalendarDTO.Request("tester0", 2024, 2));
+
+                //then
+                assertThat(result.getDays()).hasSize(29);
+                verify(todoRepository).countDailyByMemberId("tester0",
+                        LocalDateTime.of(2024, 2, 1, 0, 0),
+                        LocalDateTime.of(2024, 3, 1, 0, 0));
+            }
+        }
+
+        /**
+         * 실패 케이스
+         * 1. 연도나 월이 null v
+         * 2. 존재하지 않는 월 v
+         */
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. 연도나 월이 null")
+            public void nullTest() {
+                String message = assertThrows(ValidationException.class,
+                        () -> todoService.calendar(new TodoCalendarDTO.Request("tester0", null, 2))).getMessage();
+
+                assertThat(message).isEqualTo("입력값을 확인해주세요");
+            }
+
+            @Test
+            @DisplayName("2. 존재하지 않는 월")
+            public void invalidMonthTest() {
+                String message = assertThrows(ValidationException.class,
+                        () -> todoService.calendar(new TodoCalendarDTO.Request("tester0", 2023, 13))).getMessage();
+
+                assertThat(message).isEqualTo("잘못된 날짜입니다.");
+                verify(todoRepository, never()).countDailyByMemberId(anyString(), any(), any());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("findTodosTest")
+    public class FindTodosTest {
+        private final LocalDateTime now = LocalDateTime.of(2023, 5, 1, 12, 0);
+
+        /**
+         * 성공 케이스
+         * 1. 첫 페이지는 미완료 todo부터 size+1개를 조회하고 마지막 todo를 cursor로 리턴 v
+         * 2. 미완료 todo가 모자라면 남은 개수만큼 완료된 todo로 채움 v
+         * 3. 완료된 todo의 cursor면 완료된 todo만 cursor 이후로 조회 v
+         * 4. 마지막 페이지는 hasNext가 false이고 cursor가 없음 v
+         */
+        @Nested
+        @DisplayName("success")
+        public class Success {
+            @Test
+            @DisplayName("1. 첫 페이지는 미완료 todo부터 size+1개를 조회하고 마지막 todo를 cursor로 리턴")
+            public void firstPageTest() throws ValidationException, TodoException {
+                //given
+                when(todoRepository.findPageByMemberId(eq("tester0"), eq(false), any(Pageable.class))).thenReturn(List.of(
+                        view(3, false, now), view(2, false, now.minusHours(1)), view(1, false, now.minusHours(2))));
+
+                //when
+                TodoListDTO.Response result = todoService.findTodos(TodoListDTO.Request.builder().userId("tester0").size(2).build());
+
+                //then
+                assertThat(result.getTodos()).extracting(TodoListDTO.Item::getTodoId).containsExactly(3L, 2L);
+                assertThat(result.isHasNext()).isTrue();
+                assertThat(result.getNext().isComplete()).isFalse();
+                assertThat(result.getNext().getCreatedAt()).isEqualTo(now.minusHours(1));
+                assertThat(result.getNext().getTodoId()).isEqualTo(2L);
+                verify(todoRepository).findPageByMemberId("tester0", false, PageRequest.of(0, 3));
+                verify(todoRepository, never()).findPageByMemberId(eq("tester0"), eq(true), any(Pageable.class));
+            }
+
+            @Test
+            @DisplayName("2. 미완료 todo가 모자라면 남은 개수만큼 완료된 todo로 채움")
+            public void fillWithCompletedTest() throws ValidationException, TodoException {
+                //given
+                when(todoRepository.findPageByMemberId(eq("tester0"), eq(false), any(Pageable.class))).thenReturn(List.of(
+                        view(3, false, now)));
+                when(todoRepository.findPageByMemberId(eq("tester0"), eq(true), any(Pageable.class))).thenReturn(List.of(
+                        view(2, true, now), view(1, true, now.minusHours(1))));
+
+                //when
+                TodoListDTO.Response result = todoService.findTodos(TodoListDTO.Request.builder().userId("tester0").size(2).build());
+
+                //then
+                assertThat(result.getTodos()).extracting(TodoListDTO.Item::getTodoId).containsExactly(3L, 2L);
+                assertThat(result.isHasNext()).isTrue();
+                assertThat(result.getNext().isComplete()).isTrue();
+                verify(todoRepository).findPageByMemberId("tester0", true, PageRequest.of(0, 2));
+            }
+
+            @Test
+            @DisplayName("3. 완료된 todo의 cursor면 완료된 todo만 cursor 이후로 조회")
+            public void completedCursorTest() throws ValidationException, TodoException {
+                //given
+                when(todoRepository.findPageByMemberIdAfter(eq("tester0"), eq(true), eq(now), eq(5L), any(Pageable.class))).thenReturn(List.of(
+                        view(4, true, now.minusHours(1))));
+
+                //when
+                TodoListDTO.Response result = todoService.findTodos(TodoListDTO.Request.builder()
+                        .userId("tester0")
+                        .complete(true)
+                        .createdAt(now)
+                        .todoId(5L)
+                        .size(2)
+                        .build());
+
+                //then
+                assertThat(result.getTodos()).extracting(TodoListDTO.Item::getTodoId).containsExactly(4L);
+                verify(todoRepository, never()).findPageByMemberIdAfter(anyString(), eq(false), any(), any(), any());
+                verify(todoRepository, never()).findPageByMemberId(anyString(), anyBoolean(), any());
+            }
+
+            @Test
+            @DisplayName("4. 마지막 페이지는 hasNext가 false이고 cursor가 없음")
+            public void lastPageTest() throws ValidationException, TodoException {
+                //given
+                when(todoRepository.findPageByMemberIdAfter(eq("tester0"), eq(false), eq(now), eq(5L), any(Pageable.class))).thenReturn(List.of(
+                        view(4, false, now.minusHours(1))));
+                when(todoRepository.findPageByMemberId(eq("tester0"), eq(true), any(Pageable.class))).thenReturn(List.of(
+                        view(1, true, now)));
+
+                //when
+                TodoListDTO.Response result = todoService.findTodos(TodoListDTO.Request.builder()
+                        .userId("tester0")
+                        .complete(false)
+                        .createdAt(now)
+                        .todoId(5L)
+                        .size(2)
+                        .build());
+
+                //then
+                //미완료 cursor 이후의 todo를 모두 읽으면 완료된 todo는 처음부터 조회
+                assertThat(result.getTodos()).extracting(TodoListDTO.Item::getTodoId).containsExactly(4L, 1L);
+                assertThat(result.isHasNext()).isFalse();
+                assertThat(result.getNext()).isNull();
+                verify(todoRepository).findPageByMemberId("tester0", true, PageRequest.of(0, 2));
+            }
+        }
+
+        /**
+         * 실패 케이스
+         * 1. cursor 값 중 일부만 있는 경우 v
+         * 2. size가 1 미만이거나 100 초과 v
+         */
+        @Nested
+        @DisplayName("fail")
+        public class Fail {
+            @Test
+            @DisplayName("1. cursor 값 중 일부만 있는 경우")
+            public void partialCursorTest() {
+                String message = assertThrows(ValidationException.class, () -> todoService.findTodos(TodoListDTO.Request.builder()
+                        .userId("tester0")
+                        .todoId(5L)
+                        .build())).getMessage();
+
+                assertThat(message).isEqualTo("잘못된 페이지 정보입니다.");
+            }
+
+            @Test
+            @DisplayName("2. size가 1 미만이거나 100 초과")
+            public void sizeTest() {
+                assertThrows(ValidationException.class, () -> todoService.findTodos(TodoListDTO.Request.builder().userId("tester0").size(0).build()));
+                assertThrows(ValidationException.class, () -> todoService.findTodos(TodoListDTO.Request.builder().userId("tester0").size(101).build()));
+                verify(todoRepository, never()).findPageByMemberId(anyString(), anyBoolean(), any());
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.hyeonuk.todo.todo.service;
+
+import com.hyeonuk.todo.integ.exception.ValidationException;
+import com.hyeonuk.todo.member.entity.Member;
+import com.hyeonuk.todo.member.exception.UserInfoNotFoundException;
+import com.hyeonuk.todo.member.repository.MemberRepository;
+import com.hyeonuk.todo.member.service.MemberSnapshotCache;
+import com.hyeonuk.todo.todo.data.TransferFormat;
+import com.hyeonuk.todo.todo.dto.TodoTransferDTO;
+import com.hyeonuk.todo.todo.repository.TodoRepository;
+import com.hyeonuk.todo.todo.repository.TodoView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@Import({TodoTransferServiceImpl.class, MemberSnapshotCache.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class TodoTransferServiceImplTest {
+    @Autowired
+    private TodoTransferService todoTransferService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    //member.cache.redis가 false이므로 사용되지 않음
+    @MockBean
+    private StringRedisTemplate redisTemplate;
+
+    @MockBean
+    private CategoryCache categoryCache;
+
+    private final String userId = "tester";
+
+    @BeforeEach
+    public void init() {
+        memberRepository.save(Member.builder()
+                .id(userId)
+                .name("tester")
+                .email("tester@gmail.com")
+                .password("1111")
+                .build());
+    }
+
+    private ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String export(TransferFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        todoTransferService.exportTodos(userId, out, format);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 성공케이스
+     * 1. ndjson import 후 export v
+     * 2. csv import 후 export v
+     * 3. flush 단위보다 많은 줄 import v
+     * 4. 같은 title의 카테고리는 한번만 생성 v
+     * 실패케이스
+     * 1. 잘못된 형식의 줄이 있으면 전체 rollback v
+     * 2. 내용 길이 초과 v
+     * 3. 없는 회원 v
+     * 4. ndjson 한 줄 길이 초과 v
+     * 5. csv 레코드 길이 초과 v
+     */
+    @Nested
+    @DisplayName("success")
+    public class Success {
+        @Test
+        @DisplayName("1. ndjson import 후 export")
+        public void ndjsonTest() throws Exception {
+            String ndjson = "{\"category\":\"일반\"}\n" +
+                    "{\"category\":\"일반\",\"content\":\"todo1\",\"complete\":true}\n" +
+                    "\n" +
+                    "{\"content\":\"todo2\"}\n";
+
+            TodoTransferDTO.ImportResponse response = todoTransferService.importTodos(userId, input(ndjson), TransferFormat.NDJSON);
+
+            assertAll(
+                    () -> assertThat(response.getCategories()).isEqualTo(1),
+                    () -> assertThat(response.getTodos()).isEqualTo(2),
+                    () -> assertThat(export(TransferFormat.NDJSON)).isEqualTo(ndjson.replace("\n\n", "\n")
+                            .replace("{\"content\":\"todo2\"}", "{\"content\":\"todo2\",\"complete\":false}"))
+            );
+        }
+
+        @Test
+        @DisplayName("2. csv import 후 export")
+        public void csvTest() throws Exception {
+            String csv = "category,content,complete\n" +
+                    "일반,,\n" +
+                    "일반,\"a, \"\"b\"\"\",true\n" +
+                    ",todo2,false\n";
+
+            TodoTransferDTO.ImportResponse response = todoTransferService.importTodos(userId, input(csv), TransferFormat.CSV);
+
+            assertAll(
+                    () -> assertThat(response.getCategories()).isEqualTo(1),
+                    () -> assertThat(response.getTodos()).isEqualTo(2),
+                    () -> assertThat(export(TransferFormat.CSV)).isEqualTo(csv)
+            );
+        }
+
+        @Test
+        @DisplayName("3. flush 단위보다 많은 줄 import")
+        public void largeImportTest() throws Exception {
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = 0; i < 250; i++) {
+                ndjson.append("{\"category\":\"category").append(i % 3).append("\",\"content\":\"todo").append(i).append("\"}\n");
+            }
+
+            TodoTransferDTO.ImportResponse response = todoTransferService.importTodos(userId, input(ndjson.toString()), TransferFormat.NDJSON);
+
+            List<TodoView> todos;
+            try (Stream<TodoView> stream = todoRepository.streamTodoViewsByMemberId(userId)) {
+                todos = stream.toList();
+            }
+            assertAll(
+                    () -> assertThat(response.getCategories()).isEqualTo(3),
+                    () -> assertThat(response.getTodos()).isEqualTo(250),
+                    () -> assertThat(todos).hasSize(250),
+                    () -> assertThat(todos.stream().map(TodoView::categoryId).distinct().count()).isEqualTo(3)
+            );
+        }
+
+        @Test
+        @DisplayName("4. 같은 title의 카테고리는 한번만 생성")
+        public void reuseCategoryTest() throws Exception {
+            todoTransferService.importTodos(userId, input("{\"category\":\"일반\"}\n"), TransferFormat.NDJSON);
+
+            TodoTransferDTO.ImportResponse response = todoTransferService.importTodos(userId,
+                    input("{\"category\":\"일반\",\"content\":\"todo\"}\n"), TransferFormat.NDJSON);
+
+            assertThat(response.getCategories()).isEqualTo(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("fail")
+    public class Fail {
+        @Test
+        @DisplayName("1. 잘못된 형식의 줄")
+        public void malformedTest() {
+            String ndjson = "{\"content\":\"todo1\"}\n{\"content\":";
+
+            ValidationException e = assertThrows(ValidationException.class,
+                    () -> todoTransferService.importTodos(userId, input(ndjson), TransferFormat.NDJSON));
+
+            assertThat(e.getMessage()).startsWith("2번째 줄");
+        }
+
+        @Test
+        @DisplayName("2. 내용 길이 초과")
+        public void overLengthTest() {
+            String ndjson = "{\"content\":\"" + "a".repeat(201) + "\"}\n";
+
+            assertThrows(ValidationException.class,
+                    () -> todoTransferService.importTodos(userId, input(ndjson), TransferFormat.NDJSON));
+        }
+
+        @Test
+        @DisplayName("3. 없는 회원")
+        public void notExistMemberTest() {
+            assertThrows(UserInfoNotFoundException.class,
+                    () -> todoTransferService.importTodos("notExistUser", input("{\"content\":\"todo\"}\n"), TransferFormat.NDJSON));
+        }
+
+        @Test
+        @DisplayName("4. ndjson 한 줄 길이 초과")
+        public void ndjsonLineTooLongTest() {
+            String ndjson = "{\"content\":\"todo1\"}\n" + " ".repeat(TodoTransferServiceImpl.MAX_LINE_LENGTH + 1);
+
+            ValidationException e = assertThrows(ValidationException.class,
+                    () -> todoTransferService.importTodos(userId, input(ndjson), TransferFormat.NDJSON));
+
+            assertThat(e.getMessage()).startsWith("2번째 줄");
+        }
+
+        @Test
+        @DisplayName("5. csv 레코드 길이 초과")
+        public void csvRecordTooLongTest() {
+            String csv = "category,content,complete\n일반,\"" + "a".repeat(TodoTransferServiceImpl.MAX_LINE_LENGTH);
+
+            ValidationException e = assertThrows(ValidationException.class,
+                    () -> todoTransferService.importTodos(userId, input(csv), TransferFormat.CSV));
+
+            assertThat(e.getMessage()).startsWith("2번째 줄");
+        }
+    }
+}